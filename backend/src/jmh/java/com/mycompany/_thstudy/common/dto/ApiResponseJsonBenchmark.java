@@ -0,0 +1,58 @@
+package com.mycompany._thstudy.common.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mycompany._thstudy.transaction.query.TransactionBenchmarkData;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 목록 응답 ApiResponse<List<TransactionListResponse>> 의 JSON 직렬화 비용.
+ * Spring Boot 와 같은 기본값(JavaTimeModule, 날짜 문자열)을 쓰는 ObjectMapper 로 응답 스트림에 쓰는 경로를 잰다.
+ * 실행: ./gradlew jmh -PjmhIncludes=ApiResponseJsonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class ApiResponseJsonBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int rows;
+
+  private ApiResponse<List<TransactionListResponse>> response;
+  private ObjectWriter writer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    response = ApiResponse.success(TransactionBenchmarkData.transactions(rows));
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    // 컨트롤러 반환 타입과 같은 제네릭 타입으로 serializer 를 미리 고정한다
+    writer = objectMapper.writerFor(new TypeReference<ApiResponse<List<TransactionListResponse>>>() { });
+  }
+
+  @Benchmark
+  public void serialize() throws IOException {
+    writer.writeValue(OutputStream.nullOutputStream(), response);
+  }
+}
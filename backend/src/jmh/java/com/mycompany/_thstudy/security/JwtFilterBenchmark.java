@@ -0,0 +1,85 @@
+package com.mycompany._thstudy.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 의 요청당 토큰 처리 비용.
+ * - legacy: 이전 구현 (validateToken + getUserEmailFromJWTToken, 매번 parser 생성 후 2회 검증)
+ * - parseOnce: 공유 parser 로 1회 검증 (검증 캐시 off)
+ * - parseCached: 같은 토큰 재요청 시 검증 캐시 적중
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+  private static final String SECRET = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+  private SecretKey secretKey;
+  private JwtTokenProvider uncached;
+  private JwtTokenProvider cached;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    uncached = provider(0);
+    cached = provider(10_000);
+    token = uncached.createToken(1L, "bench@test.com", "USER");
+  }
+
+  @Benchmark
+  public String legacy() {
+    Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+    Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    return claims.getSubject();
+  }
+
+  @Benchmark
+  public LoginUser parseOnce() {
+    return uncached.toLoginUser(uncached.parseClaims(token));
+  }
+
+  @Benchmark
+  public LoginUser parseCached() {
+    return cached.toLoginUser(cached.parseClaims(token));
+  }
+
+  static JwtTokenProvider provider(long cacheSize) throws Exception {
+    JwtTokenProvider provider = new JwtTokenProvider();
+    set(provider, "jwtSecret", SECRET);
+    set(provider, "jwtExpiration", 3_600_000L);
+    set(provider, "jwtRefreshExpiration", 7_200_000L);
+    set(provider, "verifiedCacheSize", cacheSize);
+    provider.init();
+    return provider;
+  }
+
+  private static void set(Object target, String name, Object value) throws Exception {
+    Field field = target.getClass().getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(target, value);
+  }
+}
@@ -0,0 +1,53 @@
+package com.mycompany._thstudy.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 단위 연산 비용 (발급 / 검증 / principal 복원).
+ * 검증 캐시를 끈 provider 로 측정해 매 호출이 서명 검증을 포함한다.
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+  private JwtTokenProvider provider;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    provider = JwtFilterBenchmark.provider(0);
+    token = provider.createToken(1L, "bench@test.com", "USER");
+  }
+
+  @Benchmark
+  public String create() {
+    return provider.createToken(1L, "bench@test.com", "USER");
+  }
+
+  @Benchmark
+  public boolean validate() {
+    return provider.validateToken(token);
+  }
+
+  @Benchmark
+  public LoginUser parse() {
+    return provider.getLoginUserFromJWTToken(token);
+  }
+}
@@ -0,0 +1,47 @@
+package com.mycompany._thstudy.transaction.query;
+
+import com.mycompany._thstudy.transaction.query.dto.response.CategoryRawSummary;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 입력 데이터.
+ * 난수를 쓰지 않고 인덱스로만 값을 정하므로 실행마다 같은 데이터가 만들어져 결과를 서로 비교할 수 있다.
+ */
+public final class TransactionBenchmarkData {
+
+  private TransactionBenchmarkData() {
+  }
+
+  /** 거래 목록 행 (수입 1 : 지출 4, 카테고리 12개, 약 5년 범위 날짜) */
+  public static List<TransactionListResponse> transactions(int rows) {
+    List<TransactionListResponse> data = new ArrayList<>(rows);
+    LocalDate start = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < rows; i++) {
+      data.add(new TransactionListResponse(
+          (long) i, 1L, "생활비 계좌",
+          i % 5 == 0 ? "INCOME" : "EXPENSE",
+          (long) (i % 12), "카테고리" + (i % 12),
+          1_000L + (i * 37L) % 500_000L,
+          "메모 " + i,
+          start.plusDays(i % 2000)
+      ));
+    }
+    return data;
+  }
+
+  /** 월별 롤업 조회 결과 (카테고리별 유형/합계 한 행씩) */
+  public static List<CategoryRawSummary> monthlyRollup(int categories) {
+    List<CategoryRawSummary> rows = new ArrayList<>(categories);
+    for (int i = 0; i < categories; i++) {
+      rows.add(new CategoryRawSummary(
+          "카테고리" + i,
+          i % 4 == 0 ? "INCOME" : "EXPENSE",
+          10_000L + (i * 7_919L) % 1_000_000L));
+    }
+    return rows;
+  }
+}
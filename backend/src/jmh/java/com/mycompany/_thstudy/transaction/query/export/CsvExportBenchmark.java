@@ -0,0 +1,70 @@
+package com.mycompany._thstudy.transaction.query.export;
+
+import com.mycompany._thstudy.transaction.query.TransactionBenchmarkData;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 행 렌더링: exportCsv 경로(StringBuilder 에 모은 뒤 byte[] 변환) vs streamCsv 경로(버퍼드 Writer 로 바로 기록).
+ * 실행: ./gradlew jmh -PjmhIncludes=CsvExportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class CsvExportBenchmark {
+
+  @Param({"10000", "100000"})
+  private int rows;
+
+  private List<TransactionListResponse> data;
+  private TransactionCsvWriter writer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    writer = new TransactionCsvWriter();
+    data = TransactionBenchmarkData.transactions(rows);
+  }
+
+  @Benchmark
+  public byte[] bufferedBytes() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    writer.writeHeader(sb);
+    for (TransactionListResponse t : data) {
+      writer.writeRow(sb, t);
+    }
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public void streamingWriter() throws IOException {
+    Writer out = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8));
+    writer.writeHeader(out);
+    for (TransactionListResponse t : data) {
+      writer.writeRow(out, t);
+    }
+    out.flush();
+  }
+}
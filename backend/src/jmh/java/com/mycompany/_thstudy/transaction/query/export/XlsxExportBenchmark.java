@@ -0,0 +1,57 @@
+package com.mycompany._thstudy.transaction.query.export;
+
+import com.mycompany._thstudy.transaction.query.TransactionBenchmarkData;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XLSX 내보내기: 기존 XSSF + autoSizeColumn 경로 vs SXSSF 스트리밍 경로.
+ * 행 생성 비용만 비교하도록 결과는 버리는 OutputStream 에 기록한다.
+ * 메모리 비교는 gc 프로파일러의 gc.alloc.rate.norm 값을 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx1g"})
+public class XlsxExportBenchmark {
+
+  @Param({"10000", "100000"})
+  private int rows;
+
+  private List<TransactionListResponse> data;
+  private TransactionXlsxWriter writer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    writer = new TransactionXlsxWriter();
+    data = TransactionBenchmarkData.transactions(rows);
+  }
+
+  @Benchmark
+  public void xssfWithAutoSize() throws IOException {
+    writer.writeWorkbook(data, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void sxssfStreaming() throws IOException {
+    writer.writeStreaming(data, OutputStream.nullOutputStream());
+  }
+}
@@ -0,0 +1,64 @@
+package com.mycompany._thstudy.transaction.query.service;
+
+import com.mycompany._thstudy.transaction.query.TransactionBenchmarkData;
+import com.mycompany._thstudy.transaction.query.dto.response.CategoryRawSummary;
+import com.mycompany._thstudy.transaction.query.dto.response.MonthlySummaryResponse;
+import com.mycompany._thstudy.transaction.query.export.TransactionCsvWriter;
+import com.mycompany._thstudy.transaction.query.export.TransactionXlsxWriter;
+import com.mycompany._thstudy.transaction.query.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getMonthlySummary 의 조회 이후 후처리(유형 분리, 합계, 비율 계산) 비용.
+ * 매퍼는 미리 만든 롤업 결과를 돌려주는 프록시로 바꿔 DB 없이 서비스 코드만 측정한다.
+ * 실행: ./gradlew jmh -PjmhIncludes=MonthlySummaryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonthlySummaryBenchmark {
+
+  /** 사용자 한 명의 한 달 카테고리 수 (일반적인 경우 / 많은 경우) */
+  @Param({"12", "200"})
+  private int categories;
+
+  private TransactionQueryService service;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<CategoryRawSummary> rollup = TransactionBenchmarkData.monthlyRollup(categories);
+    TransactionMapper mapper = (TransactionMapper) Proxy.newProxyInstance(
+        TransactionMapper.class.getClassLoader(),
+        new Class<?>[]{TransactionMapper.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("findMonthlySummaryFromRollup")) {
+            return rollup;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+    service = new TransactionQueryService(mapper, new TransactionCsvWriter(), new TransactionXlsxWriter());
+  }
+
+  @Benchmark
+  public MonthlySummaryResponse monthlySummary() {
+    return service.getMonthlySummary(1L, 2024, 3);
+  }
+}
@@ -0,0 +1,10 @@
+package com.mycompany._thstudy.loadtest;
+
+/** 혼합 워크로드를 이루는 요청 종류 */
+enum Endpoint {
+  LOGIN,
+  DASHBOARD,
+  LIST,
+  SUMMARY,
+  EXPORT
+}
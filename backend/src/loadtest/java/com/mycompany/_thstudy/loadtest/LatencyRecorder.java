@@ -0,0 +1,75 @@
+package com.mycompany._thstudy.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 응답 시간(ns) 기록.
+ * 워커마다 하나씩 두어 기록 중 동기화가 없고, 끝난 뒤 merge 로 합친다.
+ */
+final class LatencyRecorder {
+
+  private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+  void record(Endpoint endpoint, long nanos, boolean success) {
+    Samples s = samples.computeIfAbsent(endpoint, e -> new Samples());
+    s.add(nanos);
+    if (!success) {
+      s.errors++;
+    }
+  }
+
+  void merge(LatencyRecorder other) {
+    other.samples.forEach((endpoint, s) -> {
+      Samples target = samples.computeIfAbsent(endpoint, e -> new Samples());
+      for (int i = 0; i < s.size; i++) {
+        target.add(s.values[i]);
+      }
+      target.errors += s.errors;
+    });
+  }
+
+  /** 측정 구간(초) 기준 처리량과 p50/p99/max(ms) 표 출력 */
+  void print(double seconds) {
+    System.out.printf("%-10s %9s %7s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+    long totalRequests = 0;
+    long totalErrors = 0;
+    for (Endpoint endpoint : Endpoint.values()) {
+      Samples s = samples.get(endpoint);
+      if (s == null || s.size == 0) {
+        continue;
+      }
+      long[] sorted = Arrays.copyOf(s.values, s.size);
+      Arrays.sort(sorted);
+      System.out.printf("%-10s %9d %7d %10.1f %9.1f %9.1f %9.1f%n",
+          endpoint.name().toLowerCase(), s.size, s.errors, s.size / seconds,
+          millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+      totalRequests += s.size;
+      totalErrors += s.errors;
+    }
+    System.out.printf("%-10s %9d %7d %10.1f%n", "total", totalRequests, totalErrors, totalRequests / seconds);
+  }
+
+  private static long percentile(long[] sorted, double p) {
+    int index = (int) Math.ceil(p * sorted.length) - 1;
+    return sorted[Math.max(0, index)];
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static final class Samples {
+    private long[] values = new long[1024];
+    private int size;
+    private long errors;
+
+    void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+  }
+}
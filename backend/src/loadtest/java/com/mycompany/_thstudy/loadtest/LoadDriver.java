@@ -0,0 +1,183 @@
+package com.mycompany._thstudy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 혼합 워크로드 부하 드라이버.
+ * loadgen 프로필로 만든 계정(load{n}@loadtest.local)으로 로그인한 뒤
+ * 대시보드 / 거래 목록 / 월 요약 / CSV 내보내기를 가중치대로 섞어 호출하고,
+ * 워밍업 이후 구간의 엔드포인트별 처리량과 p50/p99 를 출력한다.
+ *
+ * 설정 (-D 시스템 프로퍼티, ./gradlew loadTest 가 loadtest.* 를 그대로 넘긴다)
+ *   loadtest.base-url     기본 http://localhost:8080
+ *   loadtest.users        로그인에 쓸 계정 수 (loadgen.users 와 맞춘다), 기본 1000
+ *   loadtest.password     기본 loadtest1234!
+ *   loadtest.concurrency  동시 사용자(가상 스레드) 수, 기본 32
+ *   loadtest.warmup       기본 10s
+ *   loadtest.duration     측정 시간, 기본 60s
+ *   loadtest.mix          기본 login=2,dashboard=30,list=35,summary=28,export=5
+ *   loadtest.seed         기본 42 (같은 값이면 요청 순서가 같다)
+ */
+public final class LoadDriver {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private final String baseUrl;
+  private final int users;
+  private final String password;
+  private final Map<Endpoint, Integer> mix;
+  private final int totalWeight;
+  private final long seed;
+
+  private LoadDriver(String baseUrl, int users, String password, Map<Endpoint, Integer> mix, long seed) {
+    this.baseUrl = baseUrl;
+    this.users = users;
+    this.password = password;
+    this.mix = mix;
+    this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    this.seed = seed;
+  }
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+    Duration warmup = duration(System.getProperty("loadtest.warmup", "10s"));
+    Duration measure = duration(System.getProperty("loadtest.duration", "60s"));
+
+    LoadDriver driver = new LoadDriver(
+        baseUrl,
+        Integer.getInteger("loadtest.users", 1000),
+        System.getProperty("loadtest.password", "loadtest1234!"),
+        parseMix(System.getProperty("loadtest.mix", "login=2,dashboard=30,list=35,summary=28,export=5")),
+        Long.getLong("loadtest.seed", 42L));
+
+    System.out.printf("Load test: %s, concurrency=%d, warmup=%s, duration=%s, mix=%s%n",
+        baseUrl, concurrency, warmup, measure, driver.mix);
+
+    long start = System.nanoTime();
+    long measureFrom = start + warmup.toNanos();
+    long until = measureFrom + measure.toNanos();
+
+    List<LatencyRecorder> recorders = new ArrayList<>(concurrency);
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorders.add(recorder);
+        int workerId = i;
+        workers.submit(() -> driver.runWorker(workerId, recorder, measureFrom, until));
+      }
+    }
+
+    LatencyRecorder total = new LatencyRecorder();
+    recorders.forEach(total::merge);
+    total.print(measure.toNanos() / 1e9);
+  }
+
+  /** 워커 하나 = 사용자 세션 하나. 토큰이 없으면 먼저 로그인한다 */
+  private void runWorker(int workerId, LatencyRecorder recorder, long measureFrom, long until) {
+    SplittableRandom random = new SplittableRandom(seed + workerId);
+    String token = null;
+    while (System.nanoTime() < until) {
+      Endpoint endpoint = token == null ? Endpoint.LOGIN : pick(random);
+      long started = System.nanoTime();
+      boolean success;
+      try {
+        if (endpoint == Endpoint.LOGIN) {
+          token = login(random.nextInt(users));
+          success = token != null;
+        } else {
+          success = get(path(endpoint, random), token);
+        }
+      } catch (Exception e) {
+        success = false;
+      }
+      if (started >= measureFrom) {
+        recorder.record(endpoint, System.nanoTime() - started, success);
+      }
+    }
+  }
+
+  private String login(int userIndex) throws Exception {
+    String body = OBJECT_MAPPER.writeValueAsString(Map.of(
+        "email", "load" + userIndex + "@loadtest.local",
+        "password", password));
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      return null;
+    }
+    JsonNode accessToken = OBJECT_MAPPER.readTree(response.body()).path("data").path("accessToken");
+    return accessToken.isTextual() ? accessToken.asText() : null;
+  }
+
+  /** 응답 본문은 끝까지 읽되 보관하지 않는다 (내보내기 스트림 포함) */
+  private boolean get(String path, String token) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .header("Authorization", "Bearer " + token)
+        .GET()
+        .build();
+    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    return status >= 200 && status < 300;
+  }
+
+  private static String path(Endpoint endpoint, SplittableRandom random) {
+    YearMonth month = YearMonth.now().minusMonths(random.nextInt(12));
+    return switch (endpoint) {
+      case DASHBOARD -> "/api/dashboard";
+      case LIST -> "/api/transactions?size=50";
+      case SUMMARY -> "/api/transactions/summary/" + month.getYear() + "/" + month.getMonthValue();
+      case EXPORT -> {
+        LocalDate end = month.atEndOfMonth();
+        yield "/api/transactions/export/csv/stream?startDate=" + end.minusMonths(3).plusDays(1) + "&endDate=" + end;
+      }
+      case LOGIN -> throw new IllegalArgumentException("login is not a GET");
+    };
+  }
+
+  private Endpoint pick(SplittableRandom random) {
+    int target = random.nextInt(totalWeight);
+    for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+      target -= entry.getValue();
+      if (target < 0) {
+        return entry.getKey();
+      }
+    }
+    return Endpoint.DASHBOARD;
+  }
+
+  private static Map<Endpoint, Integer> parseMix(String value) {
+    Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    for (String part : value.split(",")) {
+      String[] pair = part.trim().split("=");
+      mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+    }
+    return mix;
+  }
+
+  private static Duration duration(String value) {
+    return Duration.parse("PT" + value.trim().toUpperCase());
+  }
+}
@@ -5,12 +5,12 @@ import com.mycompany._thstudy.account.command.application.dto.request.AccountUpd
 import com.mycompany._thstudy.account.command.application.dto.response.AccountCommandResponse;
 import com.mycompany._thstudy.account.command.application.service.AccountCommandService;
 import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.security.LoginUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -22,26 +22,26 @@ public class AccountCommandController {
 
     @PostMapping
     public ResponseEntity<ApiResponse<AccountCommandResponse>> create(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal LoginUser loginUser,
             @Valid @RequestBody AccountCreateRequest request) {
-        AccountCommandResponse response = accountCommandService.createAccount(userDetails.getUsername(), request);
+        AccountCommandResponse response = accountCommandService.createAccount(loginUser.getUserId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<AccountCommandResponse>> update(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal LoginUser loginUser,
             @PathVariable Long id,
             @Valid @RequestBody AccountUpdateRequest request) {
-        AccountCommandResponse response = accountCommandService.updateAccount(userDetails.getUsername(), id, request);
+        AccountCommandResponse response = accountCommandService.updateAccount(loginUser.getUserId(), id, request);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal LoginUser loginUser,
             @PathVariable Long id) {
-        accountCommandService.deleteAccount(userDetails.getUsername(), id);
+        accountCommandService.deleteAccount(loginUser.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 }
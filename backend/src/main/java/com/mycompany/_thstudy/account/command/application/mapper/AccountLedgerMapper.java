@@ -0,0 +1,43 @@
+package com.mycompany._thstudy.account.command.application.mapper;
+
+import com.mycompany._thstudy.account.command.domain.aggregate.AccountLedgerEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * posted_at 은 DB NOW() 가 아니라 호출하는 쪽이 JVM 시간대로 넘긴다.
+ * 스냅샷/시점 잔액 조회의 날짜 경계(LocalDate.atStartOfDay)도 JVM 시간대라 DB 세션 시간대가 달라도 어긋나지 않는다.
+ */
+@Mapper
+public interface AccountLedgerMapper {
+
+    /** 방금 갱신한 accounts.balance 를 반영 후 잔액으로 읽어 원장 한 행 추가 (같은 트랜잭션, 행 잠금 보유 중) */
+    int insertFromAccountBalance(
+        @Param("accountId") Long accountId,
+        @Param("transactionId") Long transactionId,
+        @Param("entryType") String entryType,
+        @Param("amount") long amount,
+        @Param("postedAt") LocalDateTime postedAt);
+
+    /** 반영 후 잔액을 호출하는 쪽이 알고 있는 경우 (계좌 생성/잔액 직접 수정/일괄 등록) */
+    int insertEntries(
+        @Param("entries") List<AccountLedgerEntry> entries,
+        @Param("postedAt") LocalDateTime postedAt);
+
+    /** 원장이 없는 계좌에 현재 잔액으로 OPENING 행 추가 (원장 도입 전 계좌 백필) */
+    int insertMissingOpenings(@Param("postedAt") LocalDateTime postedAt);
+
+    /** from 이상 to 미만에 원장 변동이 있었던 계좌의 마감 잔액 스냅샷 생성 (이미 있으면 건너뜀) */
+    int insertDailySnapshots(
+        @Param("snapshotDate") LocalDate snapshotDate,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    int deleteEntriesByAccountId(@Param("accountId") Long accountId);
+
+    int deleteSnapshotsByAccountId(@Param("accountId") Long accountId);
+}
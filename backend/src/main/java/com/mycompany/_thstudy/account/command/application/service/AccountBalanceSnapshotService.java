@@ -0,0 +1,43 @@
+package com.mycompany._thstudy.account.command.application.service;
+
+import com.mycompany._thstudy.account.command.application.mapper.AccountLedgerMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 일별 마감 잔액 스냅샷 작성.
+ * 매일 새벽 전날 원장 변동이 있었던 계좌만 스냅샷을 남긴다 (변동 없는 계좌는 이전 스냅샷이 그대로 유효).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceSnapshotService {
+
+    private final AccountLedgerMapper accountLedgerMapper;
+
+    @Scheduled(cron = "${ledger.snapshot-cron:0 10 0 * * *}")
+    public void snapshotYesterday() {
+        backfillOpenings();
+        snapshot(LocalDate.now().minusDays(1));
+    }
+
+    /** 원장 도입 전에 만들어진 계좌에 현재 잔액으로 시작 행을 만든다 */
+    public void backfillOpenings() {
+        int inserted = accountLedgerMapper.insertMissingOpenings(LocalDateTime.now());
+        if (inserted > 0) {
+            log.info("Account ledger openings backfilled: {}", inserted);
+        }
+    }
+
+    /** date 마감 스냅샷. 다시 실행하면 같은 값으로 덮어쓴다 */
+    public void snapshot(LocalDate date) {
+        int rows = accountLedgerMapper.insertDailySnapshots(
+            date, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        log.info("Account balance snapshots for {}: {}", date, rows);
+    }
+}
@@ -5,11 +5,13 @@ import com.mycompany._thstudy.account.command.application.dto.request.AccountUpd
 import com.mycompany._thstudy.account.command.application.dto.response.AccountCommandResponse;
 import com.mycompany._thstudy.account.command.domain.aggregate.Account;
 import com.mycompany._thstudy.account.command.domain.repository.AccountRepository;
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
 import com.mycompany._thstudy.exception.BusinessException;
 import com.mycompany._thstudy.exception.ErrorCode;
 import com.mycompany._thstudy.user.command.domain.aggregate.User;
 import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,10 +22,11 @@ public class AccountCommandService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final AccountLedgerRecorder accountLedgerRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AccountCommandResponse createAccount(String userEmail, AccountCreateRequest request) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    public AccountCommandResponse createAccount(Long userId, AccountCreateRequest request) {
+        User user = userRepository.getReferenceById(userId);
 
         Account account = Account.builder()
                 .user(user)
@@ -31,31 +34,43 @@ public class AccountCommandService {
                 .balance(request.getBalance())
                 .build();
 
-        return AccountCommandResponse.from(accountRepository.save(account));
+        Account saved = accountRepository.save(account);
+        accountLedgerRecorder.recordOpening(saved.getId(), saved.getBalance());
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return AccountCommandResponse.from(saved);
     }
 
-    public AccountCommandResponse updateAccount(String userEmail, Long accountId, AccountUpdateRequest request) {
-        Account account = accountRepository.findById(accountId)
+    public AccountCommandResponse updateAccount(Long userId, Long accountId, AccountUpdateRequest request) {
+        // 잔액을 절대값으로 덮어쓰므로 행 잠금 후 읽어 원장 조정액이 동시 거래와 엇갈리지 않게 한다
+        Account account = accountRepository.findByIdForUpdate(accountId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        if (!account.getUser().getEmail().equals(userEmail)) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
+        long adjustment = request.getBalance() - account.getBalance();
         account.updateName(request.getName());
         account.updateBalance(request.getBalance());
+        if (adjustment != 0) {
+            accountLedgerRecorder.recordAdjustment(accountId, adjustment, request.getBalance());
+        }
 
-        return AccountCommandResponse.from(accountRepository.save(account));
+        Account saved = accountRepository.save(account);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return AccountCommandResponse.from(saved);
     }
 
-    public void deleteAccount(String userEmail, Long accountId) {
+    public void deleteAccount(Long userId, Long accountId) {
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
-        if (!account.getUser().getEmail().equals(userEmail)) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
+        accountLedgerRecorder.deleteHistory(accountId);
         accountRepository.deleteById(accountId);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
     }
 }
@@ -0,0 +1,66 @@
+package com.mycompany._thstudy.account.command.application.service;
+
+import com.mycompany._thstudy.account.command.application.mapper.AccountLedgerMapper;
+import com.mycompany._thstudy.account.command.domain.aggregate.AccountLedgerEntry;
+import com.mycompany._thstudy.account.command.domain.aggregate.LedgerEntryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계좌 잔액 변경을 원장에 남긴다.
+ * 호출하는 쪽 트랜잭션 안에서 실행되어 잔액 변경과 함께 커밋/롤백된다.
+ * posted_at 은 JVM 시간대의 현재 시각으로, 날짜별 스냅샷/시점 잔액 조회의 경계와 같은 기준이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountLedgerRecorder {
+
+    private final AccountLedgerMapper accountLedgerMapper;
+
+    /** AccountRepository.addBalance 직후 호출: 반영 후 잔액은 계좌 행에서 읽는다 */
+    public void recordTransaction(Long accountId, Long transactionId, long amount) {
+        accountLedgerMapper.insertFromAccountBalance(
+            accountId, transactionId, LedgerEntryType.TRANSACTION.name(), amount, LocalDateTime.now());
+    }
+
+    public void recordOpening(Long accountId, long balance) {
+        accountLedgerMapper.insertEntries(List.of(
+            entry(accountId, null, LedgerEntryType.OPENING, balance, balance)), LocalDateTime.now());
+    }
+
+    public void recordAdjustment(Long accountId, long amount, long balanceAfter) {
+        accountLedgerMapper.insertEntries(List.of(
+            entry(accountId, null, LedgerEntryType.ADJUSTMENT, amount, balanceAfter)), LocalDateTime.now());
+    }
+
+    /** 일괄 등록: 거래별 반영 후 잔액을 호출하는 쪽에서 계산해 한 번에 INSERT */
+    public void recordTransactions(List<AccountLedgerEntry> entries) {
+        if (!entries.isEmpty()) {
+            accountLedgerMapper.insertEntries(entries, LocalDateTime.now());
+        }
+    }
+
+    /** 계좌 삭제 전 원장/스냅샷 정리 (FK 해제) */
+    public void deleteHistory(Long accountId) {
+        accountLedgerMapper.deleteSnapshotsByAccountId(accountId);
+        accountLedgerMapper.deleteEntriesByAccountId(accountId);
+    }
+
+    public static AccountLedgerEntry transactionEntry(Long accountId, Long transactionId, long amount, long balanceAfter) {
+        return entry(accountId, transactionId, LedgerEntryType.TRANSACTION, amount, balanceAfter);
+    }
+
+    private static AccountLedgerEntry entry(Long accountId, Long transactionId, LedgerEntryType type,
+                                            long amount, long balanceAfter) {
+        return AccountLedgerEntry.builder()
+            .accountId(accountId)
+            .transactionId(transactionId)
+            .entryType(type)
+            .amount(amount)
+            .balanceAfter(balanceAfter)
+            .build();
+    }
+}
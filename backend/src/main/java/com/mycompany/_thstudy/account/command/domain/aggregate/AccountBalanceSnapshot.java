@@ -0,0 +1,48 @@
+package com.mycompany._thstudy.account.command.domain.aggregate;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 일별 마감 잔액 스냅샷.
+ * 그날 원장 변동이 있었던 계좌만 남기며, 시점 잔액 조회는 가장 가까운 스냅샷에서 출발해
+ * 그 이후(lastEntryId 초과) 원장만 본다.
+ */
+@Entity
+@Table(
+    name = "account_balance_snapshots",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uq_account_balance_snapshots",
+        columnNames = {"account_id", "snapshot_date"}
+    )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AccountBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 이 날짜 마감(다음 날 0시 직전) 기준
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    // 스냅샷에 반영된 마지막 원장 행
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
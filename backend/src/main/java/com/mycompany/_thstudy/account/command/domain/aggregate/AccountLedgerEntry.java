@@ -0,0 +1,54 @@
+package com.mycompany._thstudy.account.command.domain.aggregate;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 원장 (추가 전용).
+ * 잔액이 바뀔 때마다 증감액과 반영 후 잔액(balanceAfter)을 한 행씩 남긴다.
+ * 같은 계좌의 행은 계좌 행 잠금 안에서 쌓이므로 id 순서가 곧 잔액 변경 순서다.
+ * 쓰기는 AccountLedgerMapper 가 담당하고, 엔티티는 스키마 정의 용도로 둔다.
+ */
+@Entity
+@Table(
+    name = "account_ledger_entries",
+    indexes = {
+        // 시점 잔액 조회: 계좌별 posted_at 역순 seek
+        @Index(name = "idx_account_ledger_account_posted", columnList = "account_id, posted_at, id"),
+        // 일별 스냅샷 작업: 하루치 범위 스캔
+        @Index(name = "idx_account_ledger_posted", columnList = "posted_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AccountLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 거래가 삭제되어도 원장은 남으므로 FK 를 두지 않는다
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private LedgerEntryType entryType;
+
+    // 부호 있는 증감액 (수입 +, 지출 -)
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Column(name = "posted_at", nullable = false)
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,7 @@
+package com.mycompany._thstudy.account.command.domain.aggregate;
+
+public enum LedgerEntryType {
+    OPENING,      // 계좌 생성 시 초기 잔액 (원장 도입 전 계좌는 도입 시점 잔액)
+    TRANSACTION,  // 거래 등록/수정/삭제에 따른 증감
+    ADJUSTMENT    // 사용자가 계좌 잔액을 직접 수정
+}
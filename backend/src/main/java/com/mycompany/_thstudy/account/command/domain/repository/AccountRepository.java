@@ -11,7 +11,19 @@ public interface AccountRepository {
 
     Optional<Account> findById(Long id);
 
+    /** 검증을 마친 id 로 연관관계만 걸 때 사용 (SELECT 없이 프록시 반환) */
+    Account getReferenceById(Long id);
+
+    /** 행 잠금(SELECT ... FOR UPDATE) 조회 */
+    Optional<Account> findByIdForUpdate(Long id);
+
     void deleteById(Long id);
 
-    List<Account> findAllByUserEmail(String userEmail);
+    List<Account> findAllByUserId(Long userId);
+
+    /**
+     * 잔액을 delta 만큼 원자적으로 증감한다. 결과가 0 미만이 되면 갱신하지 않는다.
+     * @return 갱신된 행 수 (0 이면 잔액 부족 또는 계좌 없음)
+     */
+    int addBalance(Long id, long delta);
 }
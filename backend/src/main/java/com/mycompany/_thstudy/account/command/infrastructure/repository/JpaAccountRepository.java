@@ -2,14 +2,30 @@ package com.mycompany._thstudy.account.command.infrastructure.repository;
 
 import com.mycompany._thstudy.account.command.domain.aggregate.Account;
 import com.mycompany._thstudy.account.command.domain.repository.AccountRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface JpaAccountRepository extends JpaRepository<Account, Long>, AccountRepository {
 
-    @Query("SELECT a FROM Account a WHERE a.user.email = :userEmail ORDER BY a.createdAt ASC")
-    List<Account> findAllByUserEmail(@Param("userEmail") String userEmail);
+    @Query("SELECT a FROM Account a WHERE a.user.id = :userId ORDER BY a.createdAt ASC")
+    List<Account> findAllByUserId(@Param("userId") Long userId);
+
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    // 읽고-계산-쓰기 대신 DB 가 행 잠금 안에서 증감과 잔액 검증을 함께 처리 (동시 거래의 갱신 손실 방지)
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.updatedAt = LOCAL DATETIME "
+        + "WHERE a.id = :id AND a.balance + :delta >= 0")
+    int addBalance(@Param("id") Long id, @Param("delta") long delta);
 }
@@ -1,18 +1,23 @@
 package com.mycompany._thstudy.account.query.controller;
 
+import com.mycompany._thstudy.account.query.dto.response.AccountBalanceResponse;
 import com.mycompany._thstudy.account.query.dto.response.AccountResponse;
 import com.mycompany._thstudy.account.query.dto.response.AccountSummaryResponse;
 import com.mycompany._thstudy.account.query.service.AccountQueryService;
 import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.common.web.ConditionalGet;
+import com.mycompany._thstudy.security.LoginUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -23,24 +28,39 @@ public class AccountQueryController {
     private final AccountQueryService accountQueryService;
 
     @GetMapping
+    @ConditionalGet
     public ResponseEntity<ApiResponse<List<AccountResponse>>> getAccounts(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        List<AccountResponse> accounts = accountQueryService.getAccounts(userDetails.getUsername());
+            @AuthenticationPrincipal LoginUser loginUser) {
+        List<AccountResponse> accounts = accountQueryService.getAccounts(loginUser.getUserId());
         return ResponseEntity.ok(ApiResponse.success(accounts));
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet
     public ResponseEntity<ApiResponse<AccountResponse>> getAccount(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal LoginUser loginUser,
             @PathVariable Long id) {
-        AccountResponse account = accountQueryService.getAccount(userDetails.getUsername(), id);
+        AccountResponse account = accountQueryService.getAccount(loginUser.getUserId(), id);
         return ResponseEntity.ok(ApiResponse.success(account));
     }
 
+    /* 특정 날짜 마감 시점의 잔액 (asOf 생략 시 오늘) */
+    @GetMapping("/{id}/balance")
+    @ConditionalGet
+    public ResponseEntity<ApiResponse<AccountBalanceResponse>> getBalanceAsOf(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        AccountBalanceResponse balance = accountQueryService.getBalanceAsOf(
+                loginUser.getUserId(), id, asOf != null ? asOf : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success(balance));
+    }
+
     @GetMapping("/summary")
+    @ConditionalGet
     public ResponseEntity<ApiResponse<AccountSummaryResponse>> getAccountSummary(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        AccountSummaryResponse summary = accountQueryService.getAccountSummary(userDetails.getUsername());
+            @AuthenticationPrincipal LoginUser loginUser) {
+        AccountSummaryResponse summary = accountQueryService.getAccountSummary(loginUser.getUserId());
         return ResponseEntity.ok(ApiResponse.success(summary));
     }
 }
@@ -0,0 +1,16 @@
+package com.mycompany._thstudy.account.query.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceResponse {
+    private Long accountId;
+    private LocalDate asOf;     // 이 날짜 마감 기준
+    private Long balance;
+}
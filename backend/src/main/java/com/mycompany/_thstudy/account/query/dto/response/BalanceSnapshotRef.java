@@ -0,0 +1,15 @@
+package com.mycompany._thstudy.account.query.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/** 시점 잔액 조회의 출발점이 되는 일별 스냅샷 */
+@Getter
+@NoArgsConstructor
+public class BalanceSnapshotRef {
+    private LocalDate snapshotDate;
+    private Long balance;
+    private Long lastEntryId;
+}
@@ -1,18 +1,33 @@
 package com.mycompany._thstudy.account.query.mapper;
 
 import com.mycompany._thstudy.account.query.dto.response.AccountResponse;
+import com.mycompany._thstudy.account.query.dto.response.BalanceSnapshotRef;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface AccountMapper {
 
-    List<AccountResponse> findAllByUserEmail(
-        @Param("userEmail") String userEmail);
+    List<AccountResponse> findAllByUserId(
+        @Param("userId") Long userId);
 
-    AccountResponse findByIdAndUserEmail(
+    AccountResponse findByIdAndUserId(
         @Param("id") Long id,
-        @Param("userEmail") String userEmail);
+        @Param("userId") Long userId);
+
+    /** asOf 이전(포함) 가장 가까운 일별 스냅샷 */
+    BalanceSnapshotRef findLatestSnapshot(
+        @Param("accountId") Long accountId,
+        @Param("asOf") LocalDate asOf);
+
+    /** [from, before) 구간에서 가장 마지막 원장 행의 반영 후 잔액 (없으면 null) */
+    Long findLatestLedgerBalance(
+        @Param("accountId") Long accountId,
+        @Param("afterEntryId") Long afterEntryId,
+        @Param("from") LocalDateTime from,
+        @Param("before") LocalDateTime before);
 }
@@ -0,0 +1,18 @@
+package com.mycompany._thstudy.account.query.service;
+
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import com.mycompany._thstudy.config.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 거래 쓰기도 잔액을 바꾸므로 모든 쓰기 커밋 뒤 해당 사용자의 계좌 목록 캐시를 비운다 */
+@Component
+public class AccountCacheEvictor {
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @CacheEvict(cacheNames = CacheConfig.ACCOUNTS, key = "#event.userId")
+    public void onUserDataChanged(UserDataChangedEvent event) {
+    }
+}
@@ -1,14 +1,20 @@
 package com.mycompany._thstudy.account.query.service;
 
+import com.mycompany._thstudy.account.query.dto.response.AccountBalanceResponse;
 import com.mycompany._thstudy.account.query.dto.response.AccountResponse;
 import com.mycompany._thstudy.account.query.dto.response.AccountSummaryResponse;
+import com.mycompany._thstudy.account.query.dto.response.BalanceSnapshotRef;
 import com.mycompany._thstudy.account.query.mapper.AccountMapper;
+import com.mycompany._thstudy.config.CacheConfig;
 import com.mycompany._thstudy.exception.BusinessException;
 import com.mycompany._thstudy.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -18,23 +24,47 @@ public class AccountQueryService {
 
     private final AccountMapper accountMapper;
 
-    public List<AccountResponse> getAccounts(String userEmail) {
-        return accountMapper.findAllByUserEmail(userEmail);
+    /** 사용자별 캐시, 잔액이 바뀌는 모든 쓰기 커밋 후 AccountCacheEvictor 가 비운다 */
+    @Cacheable(cacheNames = CacheConfig.ACCOUNTS, key = "#userId")
+    public List<AccountResponse> getAccounts(Long userId) {
+        return accountMapper.findAllByUserId(userId);
     }
 
-    public AccountResponse getAccount(String userEmail, Long accountId) {
-        AccountResponse account = accountMapper.findByIdAndUserEmail(accountId, userEmail);
+    public AccountResponse getAccount(Long userId, Long accountId) {
+        AccountResponse account = accountMapper.findByIdAndUserId(accountId, userId);
         if (account == null) {
             throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
         }
         return account;
     }
 
-    public AccountSummaryResponse getAccountSummary(String userEmail) {
-        List<AccountResponse> accounts = accountMapper.findAllByUserEmail(userEmail);
+    public AccountSummaryResponse getAccountSummary(Long userId) {
+        List<AccountResponse> accounts = accountMapper.findAllByUserId(userId);
         long totalBalance = accounts.stream()
                 .mapToLong(AccountResponse::getBalance)
                 .sum();
         return new AccountSummaryResponse(totalBalance, accounts.size(), accounts);
     }
+
+    /**
+     * asOf 날짜 마감 시점의 잔액.
+     * 가장 가까운 일별 스냅샷에서 출발해 그 이후 ~ asOf 사이의 마지막 원장 행만 찾으므로
+     * 계좌 이력 길이와 관계없이 인덱스 seek 두 번으로 끝난다.
+     * 원장은 기록(게시) 시각 기준이며, 원장 이력이 시작되기 전 시점은 0 으로 응답한다.
+     */
+    public AccountBalanceResponse getBalanceAsOf(Long userId, Long accountId, LocalDate asOf) {
+        getAccount(userId, accountId);
+
+        LocalDateTime before = asOf.plusDays(1).atStartOfDay();
+        BalanceSnapshotRef snapshot = accountMapper.findLatestSnapshot(accountId, asOf);
+        Long balance = snapshot == null
+            ? accountMapper.findLatestLedgerBalance(accountId, null, null, before)
+            : accountMapper.findLatestLedgerBalance(
+                accountId, snapshot.getLastEntryId(), snapshot.getSnapshotDate().plusDays(1).atStartOfDay(), before);
+
+        if (balance == null) {
+            balance = snapshot != null ? snapshot.getBalance() : 0L;
+        }
+        return new AccountBalanceResponse(accountId, asOf, balance);
+    }
 }
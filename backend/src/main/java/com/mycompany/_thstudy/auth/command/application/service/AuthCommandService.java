@@ -64,7 +64,7 @@ public class AuthCommandService {
           throw new BusinessException(ErrorCode.LOGIN_FAILED);
       }
       // 3. jwtTokenProvider.createToken(email, role)
-      String accessToken = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+      String accessToken = jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRole().name());
       String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), user.getRole().name());
 
       // 4. RefreshToken 저장
@@ -80,13 +80,13 @@ public class AuthCommandService {
   }
 
   /* refresh token 검증 후 새 토큰 발급 서비스 */
+  // 토큰을 갱신 저장하는 쓰기이고, 인증 전이라 read-your-writes 로 판단할 사용자도 없다.
+  // 읽기 전용이면 복제본으로 라우팅되어 방금 로그인에서 저장한 토큰을 못 볼 수 있으므로 주 DB 트랜잭션으로 둔다
+  @Transactional
   public TokenResponse refreshToken(String provideRefreshToken) {
 
-    // refresh token 유효성 검사
-    jwtTokenProvider.validateToken(provideRefreshToken);
-
-    // 전달 받은 refresh token에서 사용자 이름(username) 얻어오기
-    String userEmail = jwtTokenProvider.getUserEmailFromJWTToken(provideRefreshToken);
+    // refresh token 유효성 검사 + 사용자 이름(username) 얻어오기 (한 번만 파싱)
+    String userEmail = jwtTokenProvider.parseClaims(provideRefreshToken).getSubject();
 
     // DB에서 userEmail이 일치하는 행의 refresh token 조회
     RefreshToken storedToken = refreshTokenRepository.findByUserEmail(userEmail).orElseThrow(()->new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -108,7 +108,7 @@ public class AuthCommandService {
         .orElseThrow(()->new BusinessException(ErrorCode.USER_NOT_FOUND));
 
     // 새 토큰 발급
-    String accessToken = jwtTokenProvider.createToken(user.getEmail(),user.getRole().name());
+    String accessToken = jwtTokenProvider.createToken(user.getId(), user.getEmail(),user.getRole().name());
     String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(),user.getRole().name());
 
     // RefreshToken 엔티티 생성(저장용)
@@ -126,9 +126,7 @@ public class AuthCommandService {
 
   @Transactional
   public void logout(String refreshToken){
-      jwtTokenProvider.validateToken(refreshToken);
-
-      String userEmail = jwtTokenProvider.getUserEmailFromJWTToken(refreshToken);
+      String userEmail = jwtTokenProvider.parseClaims(refreshToken).getSubject();
 
       refreshTokenRepository.deleteByUserEmail(userEmail);
   }
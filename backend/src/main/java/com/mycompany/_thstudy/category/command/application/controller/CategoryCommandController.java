@@ -5,12 +5,12 @@ import com.mycompany._thstudy.category.command.application.dto.request.CategoryU
 import com.mycompany._thstudy.category.command.application.dto.response.CategoryCommandResponse;
 import com.mycompany._thstudy.category.command.application.service.CategoryCommandService;
 import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.security.LoginUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -22,30 +22,30 @@ public class CategoryCommandController {
 
   @PostMapping
   public ResponseEntity<ApiResponse<CategoryCommandResponse>> create(
-          @AuthenticationPrincipal UserDetails userDetails,
+          @AuthenticationPrincipal LoginUser loginUser,
           @Valid @RequestBody CategoryCreateRequest request) {
-    // TODO: categoryCommandService.createCategory(userDetails.getUsername(), request) → 201
-    CategoryCommandResponse response = categoryCommandService.createCategory(userDetails.getUsername(), request);
+    // TODO: categoryCommandService.createCategory(loginUser.getUserId(), request) → 201
+    CategoryCommandResponse response = categoryCommandService.createCategory(loginUser.getUserId(), request);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
   }
 
   @PutMapping("/{id}")
   public ResponseEntity<ApiResponse<CategoryCommandResponse>> update(
-          @AuthenticationPrincipal UserDetails userDetails,
+          @AuthenticationPrincipal LoginUser loginUser,
           @PathVariable Long id,
           @Valid @RequestBody CategoryUpdateRequest request) {
-    // TODO: categoryCommandService.updateCategory(userDetails.getUsername(), id, request) → 200
-    CategoryCommandResponse response = categoryCommandService.updateCategory(userDetails.getUsername(), id, request);
+    // TODO: categoryCommandService.updateCategory(loginUser.getUserId(), id, request) → 200
+    CategoryCommandResponse response = categoryCommandService.updateCategory(loginUser.getUserId(), id, request);
     return ResponseEntity.ok().body(ApiResponse.success(response));
   }
 
   @DeleteMapping("/{id}")
   public ResponseEntity<ApiResponse<Void>> delete(
-          @AuthenticationPrincipal UserDetails userDetails,
+          @AuthenticationPrincipal LoginUser loginUser,
           @PathVariable Long id) {
-    // TODO: categoryCommandService.deleteCategory(userDetails.getUsername(), id) → 204
-    categoryCommandService.deleteCategory(userDetails.getUsername(), id);
+    // TODO: categoryCommandService.deleteCategory(loginUser.getUserId(), id) → 204
+    categoryCommandService.deleteCategory(loginUser.getUserId(), id);
 
     return ResponseEntity.noContent().build();
   }
@@ -3,17 +3,21 @@ package com.mycompany._thstudy.category.command.application.service;
 import com.mycompany._thstudy.category.command.application.dto.request.CategoryCreateRequest;
 import com.mycompany._thstudy.category.command.application.dto.request.CategoryUpdateRequest;
 import com.mycompany._thstudy.category.command.application.dto.response.CategoryCommandResponse;
-import com.mycompany._thstudy.category.command.application.mapper.CategoryDuplicateMapper;
 import com.mycompany._thstudy.category.command.domain.aggregate.Category;
 import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
 import com.mycompany._thstudy.category.command.domain.repository.CategoryRepository;
+import com.mycompany._thstudy.category.query.service.CategoryQueryService;
+import com.mycompany._thstudy.common.event.CategoryChangedEvent;
 import com.mycompany._thstudy.exception.BusinessException;
 import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.command.application.service.MonthlyCategoryTotalUpdater;
 import com.mycompany._thstudy.transaction.command.domain.aggregate.Transaction;
 import com.mycompany._thstudy.transaction.command.domain.repository.TransactionRepository;
 import com.mycompany._thstudy.user.command.domain.aggregate.User;
 import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,22 +29,20 @@ public class CategoryCommandService {
   private final CategoryRepository categoryRepository;
   private final TransactionRepository transactionRepository;
   private final UserRepository userRepository;
-  private final CategoryDuplicateMapper categoryDuplicateMapper;
+  private final CategoryQueryService categoryQueryService;
+  private final MonthlyCategoryTotalUpdater monthlyCategoryTotalUpdater;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public CategoryCommandResponse createCategory(String userEmail, CategoryCreateRequest request) {
+  public CategoryCommandResponse createCategory(Long userId, CategoryCreateRequest request) {
 
-    // 0. 중복 체크
-    boolean isDuplicate = categoryDuplicateMapper.existsByUserEmailAndNameAndType(
-        userEmail,request.getName(),request.getType().name()
-    );
-
-    if(isDuplicate){
+    // 0. 중복 체크 (캐시된 사용자 카테고리 목록에서 확인). 빠른 경로일 뿐이고,
+    //    캐시가 아직 갱신되지 않은 동시 요청은 uq_categories_user_name_type 위반으로 걸러진다
+    if (isDuplicateName(userId, request.getName(), request.getType(), null)) {
       throw new BusinessException(ErrorCode.CATEGORY_DUPLICATE_NAME);
     }
 
-    // 1. userRepository.findByEmail(userEmail) → USER_NOT_FOUND
-    User user = userRepository.findByEmail(userEmail)
-        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    // 1. 인증 principal 의 userId 로 참조만 획득 (users SELECT 없음)
+    User user = userRepository.getReferenceById(userId);
 
     // 2. Category.builder().user(user).name(request.getName()).type(request.getType()).build()
     Category category = Category.builder()
@@ -49,8 +51,15 @@ public class CategoryCommandService {
         .type(request.getType())
         .build();
 
-    // 3. categoryRepository.save() → 반환값으로 id 획득
-    Category savedCategory = categoryRepository.save(category);
+    // 3. categoryRepository.saveAndFlush() → 반환값으로 id 획득
+    Category savedCategory;
+    try {
+      savedCategory = categoryRepository.saveAndFlush(category);
+    } catch (DataIntegrityViolationException e) {
+      throw new BusinessException(ErrorCode.CATEGORY_DUPLICATE_NAME);
+    }
+
+    eventPublisher.publishEvent(new CategoryChangedEvent(userId));
 
     // 4. CategoryCommandResponse 반환
     return CategoryCommandResponse.builder()
@@ -60,32 +69,32 @@ public class CategoryCommandService {
         .build();
   }
 
-  public CategoryCommandResponse updateCategory(String userEmail, Long categoryId, CategoryUpdateRequest request) {
+  public CategoryCommandResponse updateCategory(Long userId, Long categoryId, CategoryUpdateRequest request) {
 
     // 1. categoryRepository.findById(categoryId) → CATEGORY_NOT_FOUND
     Category category = categoryRepository.findById(categoryId)
         .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
 
-    // 2. category.getUser().getEmail()와 userEmail 비교 → ACCESS_DENIED
-    if (!category.getUser().getEmail().equals(userEmail)) {
+    // 2. category 소유자 id 와 userId 비교 → ACCESS_DENIED
+    if (!category.getUser().getId().equals(userId)) {
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
 
-    // 수정 전 카테고리 중복 체크
-    boolean isDuplicate = categoryDuplicateMapper.existsByUserEmailAndNameAndTypeExcludeId(
-        userEmail,
-        request.getName(),
-        category.getType().name(),
-        categoryId
-    );
-
-    if (isDuplicate){
+    // 수정 전 카테고리 중복 체크 (자기 자신 제외)
+    if (isDuplicateName(userId, request.getName(), category.getType(), categoryId)) {
       throw new BusinessException(ErrorCode.CATEGORY_DUPLICATE_NAME);
     }
 
     // 3. category.updateName(request.getName())
     // TODO: Category.updateName() 구현 필요
     category.updateName(request.getName());
+    try {
+      categoryRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      throw new BusinessException(ErrorCode.CATEGORY_DUPLICATE_NAME);
+    }
+
+    eventPublisher.publishEvent(new CategoryChangedEvent(userId));
 
     // 4. CategoryCommandResponse 반환
     return CategoryCommandResponse.builder()
@@ -95,14 +104,14 @@ public class CategoryCommandService {
         .build();
   }
 
-  public void deleteCategory(String userEmail, Long categoryId) {
+  public void deleteCategory(Long userId, Long categoryId) {
 
     // 1. findById(categoryId) → CATEGORY_NOT_FOUND
     Category category = categoryRepository.findById(categoryId)
         .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
 
-    // 2. category.getUser().getEmail()와 userEmail 비교 → ACCESS_DENIED
-    if (!category.getUser().getEmail().equals(userEmail)) {
+    // 2. category 소유자 id 와 userId 비교 → ACCESS_DENIED
+    if (!category.getUser().getId().equals(userId)) {
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
 
@@ -114,7 +123,20 @@ public class CategoryCommandService {
 
     // 4. categoryRepository.delete(category)
     // TODO: 구현
+    monthlyCategoryTotalUpdater.clearEmpty(categoryId);
     categoryRepository.delete(category);
+
+    eventPublisher.publishEvent(new CategoryChangedEvent(userId));
   }
 
+  /**
+   * 같은 유형 안에서 이름 중복 여부. 목록이 작고 캐시되어 있어 COUNT 쿼리 대신 메모리에서 비교한다.
+   * 컬럼 collation(utf8mb4_unicode_ci)과 맞추기 위해 대소문자는 구분하지 않는다.
+   */
+  private boolean isDuplicateName(Long userId, String name, CategoryType type, Long excludeId) {
+    return categoryQueryService.getCategories(userId).stream()
+        .anyMatch(c -> c.getType().equals(type.name())
+            && c.getName().equalsIgnoreCase(name)
+            && !c.getId().equals(excludeId));
+  }
 }
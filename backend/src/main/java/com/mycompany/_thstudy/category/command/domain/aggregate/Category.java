@@ -3,13 +3,24 @@ package com.mycompany._thstudy.category.command.domain.aggregate;
 import com.mycompany._thstudy.user.command.domain.aggregate.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/** 읽기가 대부분이고 이름 변경(updateName)만 있으므로 2차 캐시(READ_WRITE)에 둔다. */
 @Entity
-@Table(name = "categories")
+@Table(
+    name = "categories",
+    // 같은 유형 안에서 이름 중복 금지. 서비스의 캐시 기반 검사를 통과한 동시 요청도 여기서 막힌다
+    uniqueConstraints = @UniqueConstraint(
+        name = "uq_categories_user_name_type",
+        columnNames = {"user_id", "name", "type"}
+    )
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Category.CACHE_REGION)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,6 +28,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Category {
 
+    public static final String CACHE_REGION = "category";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -8,7 +8,16 @@ public interface CategoryRepository {
 
     Category save(Category category);
 
+    /** INSERT 를 바로 실행해 유니크 제약 위반을 호출한 쪽에서 잡을 수 있게 한다 */
+    Category saveAndFlush(Category category);
+
+    /** 변경 감지된 UPDATE 를 바로 실행 (이름 변경의 유니크 제약 위반 확인용) */
+    void flush();
+
     Optional<Category> findById(Long id);
 
+    /** 검증을 마친 id 로 연관관계만 걸 때 사용 (SELECT 없이 프록시 반환) */
+    Category getReferenceById(Long id);
+
     void delete(Category category);
 }
@@ -9,5 +9,5 @@ import java.util.List;
 @Mapper
 public interface CategoryMapper {
 
-    List<CategoryResponse> findByUserEmail(@Param("userEmail") String userEmail);
+    List<CategoryResponse> findByUserId(@Param("userId") Long userId);
 }
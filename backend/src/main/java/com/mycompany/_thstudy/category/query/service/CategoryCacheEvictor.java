@@ -0,0 +1,18 @@
+package com.mycompany._thstudy.category.query.service;
+
+import com.mycompany._thstudy.common.event.CategoryChangedEvent;
+import com.mycompany._thstudy.config.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 카테고리 쓰기가 커밋된 뒤에만 해당 사용자의 카테고리 목록 캐시를 비운다 */
+@Component
+public class CategoryCacheEvictor {
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#event.userId")
+  public void onCategoryChanged(CategoryChangedEvent event) {
+  }
+}
@@ -2,7 +2,9 @@ package com.mycompany._thstudy.category.query.service;
 
 import com.mycompany._thstudy.category.query.dto.response.CategoryResponse;
 import com.mycompany._thstudy.category.query.mapper.CategoryMapper;
+import com.mycompany._thstudy.config.CacheConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +17,15 @@ public class CategoryQueryService {
 
   private final CategoryMapper categoryMapper;
 
-  public List<CategoryResponse> getCategories(String userEmail) {
+  /**
+   * 폼을 열 때마다 호출되는 작은 목록이라 사용자별로 캐시한다.
+   * 카테고리 쓰기 커밋 후 CategoryCacheEvictor 가 비운다. 반환 목록은 공유되므로 수정하지 않는다.
+   */
+  @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "#userId")
+  public List<CategoryResponse> getCategories(Long userId) {
     // TODO: 구현
-    // categoryMapper.findByUserEmail(userEmail) 호출 후 결과 반환
+    // categoryMapper.findByUserId(userId) 호출 후 결과 반환
 
-    return categoryMapper.findByUserEmail(userEmail);
+    return categoryMapper.findByUserId(userId);
   }
 }
@@ -0,0 +1,87 @@
+package com.mycompany._thstudy.common.datasource;
+
+import com.mycompany._thstudy.security.LoginUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 주 DB 로 보내는 DataSource.
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 동기화되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 문장 실행 시점에 커넥션을 고르게 한다.
+ * 트랜잭션마다 커넥션을 새로 받아야 하므로 spring.jpa.open-in-view=false 가 전제다.
+ * 아래 경우에는 읽기도 주 DB 로 보낸다 (datasource.routing 카운터의 reason 태그)
+ *   replica-unavailable  복제본 지연이 크거나 상태를 확인할 수 없음
+ *   read-your-writes     현재 사용자가 방금 쓰기를 커밋함
+ * 사용자는 SecurityContext 의 LoginUser 로 판단하므로, 요청 스레드 밖에서 실행되는 조회는 지연 조건만 본다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Route { PRIMARY, REPLICA }
+
+  private final ReplicaLagMonitor lagMonitor;
+  private final ReadYourWritesTracker readYourWrites;
+
+  private final Counter writeRoutes;
+  private final Counter replicaRoutes;
+  private final Counter replicaUnavailableRoutes;
+  private final Counter readYourWritesRoutes;
+
+  public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites,
+                                    MeterRegistry meterRegistry) {
+    this.lagMonitor = lagMonitor;
+    this.readYourWrites = readYourWrites;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    // 알 수 없는 키로 복제본에 가지 않도록 기본값으로 떨어뜨리지 않는다
+    setLenientFallback(false);
+    afterPropertiesSet();
+
+    this.writeRoutes = routeCounter(meterRegistry, Route.PRIMARY, "write");
+    this.replicaRoutes = routeCounter(meterRegistry, Route.REPLICA, "read");
+    this.replicaUnavailableRoutes = routeCounter(meterRegistry, Route.PRIMARY, "replica-unavailable");
+    this.readYourWritesRoutes = routeCounter(meterRegistry, Route.PRIMARY, "read-your-writes");
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      writeRoutes.increment();
+      return Route.PRIMARY;
+    }
+    if (!lagMonitor.isReplicaUsable()) {
+      replicaUnavailableRoutes.increment();
+      return Route.PRIMARY;
+    }
+    Long userId = currentUserId();
+    if (userId != null && readYourWrites.isWithinWindow(userId)) {
+      readYourWritesRoutes.increment();
+      return Route.PRIMARY;
+    }
+    replicaRoutes.increment();
+    return Route.REPLICA;
+  }
+
+  private static Long currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !(authentication.getPrincipal() instanceof LoginUser loginUser)) {
+      return null;
+    }
+    return loginUser.getUserId();
+  }
+
+  private static Counter routeCounter(MeterRegistry meterRegistry, Route route, String reason) {
+    return Counter.builder("datasource.routing")
+        .description("커넥션을 고른 대상 DB 와 이유")
+        .tag("route", route.name().toLowerCase())
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
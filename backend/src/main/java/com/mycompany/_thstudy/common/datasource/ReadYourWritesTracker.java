@@ -0,0 +1,38 @@
+package com.mycompany._thstudy.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 창.
+ * 사용자의 쓰기가 커밋되면 window 동안 그 사용자의 읽기 전용 트랜잭션도 주 DB 로 보낸다.
+ * 커밋 직후 비워진 조회 캐시(대시보드/카테고리/계좌 목록)가 복제본의 옛 값으로 다시 채워지는 것도 이 창이 막는다.
+ * 그래서 window 는 허용 지연(max-lag)보다 길어야 한다.
+ */
+public class ReadYourWritesTracker {
+
+  private static final long MAX_USERS = 100_000;
+
+  private final Cache<Long, Boolean> recentWriters;
+
+  public ReadYourWritesTracker(Duration window) {
+    this.recentWriters = Caffeine.newBuilder()
+        .expireAfterWrite(window)
+        .maximumSize(MAX_USERS)
+        .build();
+  }
+
+  public boolean isWithinWindow(Long userId) {
+    return recentWriters.getIfPresent(userId) != null;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onUserDataChanged(UserDataChangedEvent event) {
+    recentWriters.put(event.getUserId(), Boolean.TRUE);
+  }
+}
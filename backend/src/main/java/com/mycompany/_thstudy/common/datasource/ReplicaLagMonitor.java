@@ -0,0 +1,80 @@
+package com.mycompany._thstudy.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제본 지연 확인.
+ * 주기적으로 복제본에서 SHOW SLAVE STATUS 를 읽어 Seconds_Behind_Master 가 max-lag 이하일 때만 사용 가능으로 본다.
+ * 복제가 멈췄거나(값 NULL), 복제 설정이 없거나(빈 결과), 조회가 실패하면 사용 불가 → 읽기도 주 DB 로 보낸다.
+ * 첫 확인 전에도 사용 불가로 시작한다. 접속 계정에 REPLICA MONITOR(또는 REPLICATION CLIENT) 권한이 필요하다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private final DataSource replicaDataSource;
+  private final Duration maxLag;
+
+  private volatile boolean usable;
+  // 마지막으로 읽은 지연(초), 알 수 없으면 -1
+  private volatile long lagSeconds = -1;
+
+  public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+    this.replicaDataSource = replicaDataSource;
+    this.maxLag = maxLag;
+    Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+        .description("복제본 지연 (초, 알 수 없으면 -1)")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+        .description("읽기 전용 트랜잭션을 복제본으로 보내는 중이면 1")
+        .register(meterRegistry);
+  }
+
+  public boolean isReplicaUsable() {
+    return usable;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource-routing.lag-check-interval:1s}")
+  public void check() {
+    try (Connection connection = replicaDataSource.getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+      if (!rs.next()) {
+        update(-1, "replication is not configured");
+        return;
+      }
+      long lag = rs.getLong("Seconds_Behind_Master");
+      if (rs.wasNull()) {
+        update(-1, "replication is stopped");
+        return;
+      }
+      update(lag, lag <= maxLag.toSeconds() ? null : "lag " + lag + "s exceeds " + maxLag.toSeconds() + "s");
+    } catch (SQLException e) {
+      update(-1, "status check failed: " + e.getMessage());
+    }
+  }
+
+  /** 상태가 바뀔 때만 로그를 남긴다. reason 이 null 이면 사용 가능 */
+  private void update(long lag, String reason) {
+    lagSeconds = lag;
+    boolean nowUsable = reason == null;
+    if (nowUsable != usable) {
+      if (nowUsable) {
+        log.info("replica is usable again (lag {}s), routing read-only transactions to it", lag);
+      } else {
+        log.warn("replica is not usable ({}), routing read-only transactions to primary", reason);
+      }
+    }
+    usable = nowUsable;
+  }
+}
@@ -0,0 +1,20 @@
+package com.mycompany._thstudy.common.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 메서드의 조회는 OLTP 풀이 아닌 reporting 풀의 커넥션을 쓴다.
+ * 동시 실행 수는 reporting 풀 크기로 제한되고(bulkhead), 자리가 나지 않으면 429 (REPORTING_BUSY).
+ * 단, WorkloadContext.beginQueuedWork 로 표시된 백그라운드 작업은 거절되지 않고 기다린다.
+ * 트랜잭션 경계보다 바깥에서 적용되므로 @Transactional 메서드에 같이 붙여도 된다.
+ * 이미 커넥션이 묶인 트랜잭션 안에서 호출되면 그 커넥션을 그대로 쓴다 (풀을 바꾸지 않음).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReportingWorkload {
+}
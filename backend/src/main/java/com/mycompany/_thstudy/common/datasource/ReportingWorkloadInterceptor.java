@@ -0,0 +1,61 @@
+package com.mycompany._thstudy.common.datasource;
+
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ReportingWorkload 메서드 실행기.
+ * reporting 풀 크기만큼의 세마포어(bulkhead)로 동시 실행을 막아, 풀이 모자라 Hikari connection-timeout 까지
+ * 기다리는 대신 acquire-timeout 안에 429 로 돌려보낸다. 실행 중에는 WorkloadContext 를 REPORTING 으로 둔다.
+ * 이미 REPORTING 인 스레드의 중첩 호출은 허가를 다시 받지 않는다.
+ * 비동기 내보내기 워커(WorkloadContext.beginQueuedWork)는 거절하지 않고 자리가 날 때까지 기다린다.
+ * 공정(fair) 세마포어라 기다리는 워커를 뒤늦게 온 스트리밍 요청이 계속 앞지르지 못한다.
+ */
+public class ReportingWorkloadInterceptor implements MethodInterceptor {
+
+  private final Semaphore permits;
+  private final Duration acquireTimeout;
+  private final Counter rejected;
+
+  public ReportingWorkloadInterceptor(int maxConcurrent, Duration acquireTimeout, MeterRegistry meterRegistry) {
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.acquireTimeout = acquireTimeout;
+    Gauge.builder("datasource.workload.bulkhead.available", permits, Semaphore::availablePermits)
+        .description("남은 동시 실행 허가 수")
+        .tag("workload", "reporting")
+        .register(meterRegistry);
+    this.rejected = Counter.builder("datasource.workload.bulkhead.rejected")
+        .description("허가를 받지 못해 거절된 호출 수")
+        .tag("workload", "reporting")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    if (WorkloadContext.current() == Workload.REPORTING) {
+      return invocation.proceed();
+    }
+    if (WorkloadContext.isQueuedWork()) {
+      permits.acquire();
+    } else if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+      rejected.increment();
+      throw new BusinessException(ErrorCode.REPORTING_BUSY);
+    }
+    WorkloadContext.set(Workload.REPORTING);
+    try {
+      return invocation.proceed();
+    } finally {
+      WorkloadContext.clear();
+      permits.release();
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.mycompany._thstudy.common.datasource;
+
+/** 커넥션 풀을 나누는 작업 부하 종류 */
+public enum Workload {
+  /** 로그인/CRUD/대시보드 등 짧은 대화형 요청 (기본값) */
+  OLTP,
+  /** 내보내기처럼 수 초 이상 커넥션을 잡는 대량 조회 */
+  REPORTING
+}
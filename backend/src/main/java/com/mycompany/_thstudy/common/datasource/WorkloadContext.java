@@ -0,0 +1,42 @@
+package com.mycompany._thstudy.common.datasource;
+
+/**
+ * 현재 스레드의 작업 부하. ReportingWorkloadInterceptor 가 메서드 실행 동안만 설정하고,
+ * WorkloadRoutingDataSource 가 커넥션을 고를 때 읽는다. 설정이 없으면 OLTP.
+ * 큐에서 꺼낸 백그라운드 작업(비동기 내보내기 워커)은 beginQueuedWork/endQueuedWork 로 감싸
+ * bulkhead 자리가 없을 때 429 로 실패하지 않고 기다리게 한다.
+ */
+public final class WorkloadContext {
+
+  private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> QUEUED = new ThreadLocal<>();
+
+  private WorkloadContext() {
+  }
+
+  public static Workload current() {
+    Workload workload = CURRENT.get();
+    return workload != null ? workload : Workload.OLTP;
+  }
+
+  static void set(Workload workload) {
+    CURRENT.set(workload);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  /** 이미 작업 큐에서 차례를 기다린 호출. 되돌려 보낼 클라이언트가 없으므로 허가를 기다린다 */
+  public static void beginQueuedWork() {
+    QUEUED.set(Boolean.TRUE);
+  }
+
+  public static void endQueuedWork() {
+    QUEUED.remove();
+  }
+
+  static boolean isQueuedWork() {
+    return QUEUED.get() != null;
+  }
+}
@@ -0,0 +1,26 @@
+package com.mycompany._thstudy.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * WorkloadContext 에 따라 OLTP / reporting 풀을 고르는 DataSource.
+ * ReadWriteRoutingDataSource 와 마찬가지로 LazyConnectionDataSourceProxy 안쪽에 두어
+ * 첫 문장 실행 시점(인터셉터가 작업 부하를 설정한 뒤)에 풀을 고른다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+  public WorkloadRoutingDataSource(DataSource oltp, DataSource reporting) {
+    setTargetDataSources(Map.of(Workload.OLTP, oltp, Workload.REPORTING, reporting));
+    setDefaultTargetDataSource(oltp);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return WorkloadContext.current();
+  }
+}
@@ -0,0 +1,13 @@
+package com.mycompany._thstudy.common.event;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트.
+ * UserDataChangedEvent 를 상속하므로 대시보드/버전 리스너도 그대로 받고,
+ * 카테고리 목록 캐시는 이 이벤트에서만 비워 거래 쓰기마다 무효화되지 않게 한다.
+ */
+public class CategoryChangedEvent extends UserDataChangedEvent {
+
+  public CategoryChangedEvent(Long userId) {
+    super(userId);
+  }
+}
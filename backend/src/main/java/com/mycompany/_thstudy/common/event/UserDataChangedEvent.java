@@ -0,0 +1,15 @@
+package com.mycompany._thstudy.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자의 거래/계좌/카테고리가 바뀌었음을 알리는 이벤트.
+ * 명령 서비스가 트랜잭션 안에서 발행하고, 조회 측 캐시는 커밋 후(AFTER_COMMIT) 받아 해당 사용자 항목만 무효화한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserDataChangedEvent {
+
+  private final Long userId;
+}
@@ -0,0 +1,37 @@
+package com.mycompany._thstudy.common.job;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 사용자별 동시 작업 수 제한.
+ * 작업 목록을 세어 본 뒤 등록하면 두 요청이 같은 빈자리를 함께 차지할 수 있으므로,
+ * 사용자 키 단위 compute 로 확인과 차지를 한 번에 한다. 작업이 끝나면 release 로 반납한다.
+ */
+public class ActiveJobLimiter {
+
+  private final int maxPerUser;
+  private final ConcurrentMap<Long, Integer> active = new ConcurrentHashMap<>();
+
+  public ActiveJobLimiter(int maxPerUser) {
+    this.maxPerUser = maxPerUser;
+  }
+
+  /** 자리가 있으면 차지하고 true */
+  public boolean tryAcquire(Long userId) {
+    boolean[] acquired = {false};
+    active.compute(userId, (id, count) -> {
+      int current = count != null ? count : 0;
+      if (current >= maxPerUser) {
+        return count;
+      }
+      acquired[0] = true;
+      return current + 1;
+    });
+    return acquired[0];
+  }
+
+  public void release(Long userId) {
+    active.computeIfPresent(userId, (id, count) -> count <= 1 ? null : count - 1);
+  }
+}
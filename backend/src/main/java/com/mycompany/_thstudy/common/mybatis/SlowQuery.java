@@ -0,0 +1,22 @@
+package com.mycompany._thstudy.common.mybatis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/** 임계값을 넘은 문장 한 건 (EXPLAIN 재실행을 위해 SQL 과 바인딩 값을 함께 보관) */
+@Getter
+@AllArgsConstructor
+public class SlowQuery {
+
+  private final long id;
+  private final String statement;
+  private final String commandType;
+  private final long elapsedMillis;
+  private final Integer rows;
+  private final String sql;
+  private final List<Object> parameters;
+  private final Instant capturedAt;
+}
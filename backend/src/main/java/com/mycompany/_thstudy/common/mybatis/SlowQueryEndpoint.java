@@ -0,0 +1,45 @@
+package com.mycompany._thstudy.common.mybatis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 느린 문장 조회/EXPLAIN (ADMIN 전용, SecurityConfig 참고).
+ *   GET /actuator/slowqueries       : 최근 느린 문장 목록 (최신순)
+ *   GET /actuator/slowqueries/{id}  : 해당 문장을 기록된 바인딩 값으로 EXPLAIN
+ * EXPLAIN 은 요청했을 때만 실행하며 SELECT 문장만 대상으로 한다.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+  private final SlowQueryLog slowQueryLog;
+  private final JdbcTemplate jdbcTemplate;
+
+  @ReadOperation
+  public List<SlowQuery> recent() {
+    return slowQueryLog.recent();
+  }
+
+  /** 보관 기간이 지나 없는 id 면 null → 404 */
+  @ReadOperation
+  public Map<String, Object> explain(@Selector long id) {
+    return slowQueryLog.find(id).map(query -> {
+      Map<String, Object> body = new LinkedHashMap<>();
+      body.put("query", query);
+      body.put("plan", "SELECT".equals(query.getCommandType())
+          ? jdbcTemplate.queryForList("EXPLAIN " + query.getSql(), query.getParameters().toArray())
+          : null);
+      return body;
+    }).orElse(null);
+  }
+}
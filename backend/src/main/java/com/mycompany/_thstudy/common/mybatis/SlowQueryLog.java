@@ -0,0 +1,47 @@
+package com.mycompany._thstudy.common.mybatis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** 최근 느린 문장을 최대 capacity 건만 보관하는 링 버퍼 */
+@Component
+public class SlowQueryLog {
+
+  private final AtomicLong sequence = new AtomicLong();
+  private final Deque<SlowQuery> entries = new ArrayDeque<>();
+  private final int capacity;
+
+  public SlowQueryLog(@Value("${mybatis-metrics.slow-query.capacity:100}") int capacity) {
+    this.capacity = capacity;
+  }
+
+  public long nextId() {
+    return sequence.incrementAndGet();
+  }
+
+  public synchronized void add(SlowQuery query) {
+    if (entries.size() == capacity) {
+      entries.removeFirst();
+    }
+    entries.addLast(query);
+  }
+
+  /** 최신순 */
+  public synchronized List<SlowQuery> recent() {
+    List<SlowQuery> list = new ArrayList<>(entries);
+    Collections.reverse(list);
+    return list;
+  }
+
+  public synchronized Optional<SlowQuery> find(long id) {
+    return entries.stream().filter(q -> q.getId() == id).findFirst();
+  }
+}
@@ -0,0 +1,190 @@
+package com.mycompany._thstudy.common.mybatis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매퍼 문장별 실행 시간/행 수 메트릭과 느린 문장 기록.
+ *   mybatis.statement{statement="TransactionMapper.findByFilter", command, outcome} : 실행 시간 (히스토그램)
+ *   mybatis.statement.rows{statement}                                               : 반환/변경 행 수
+ * 임계값을 넘은 문장은 문장 id/시간/행 수만 WARN 으로 남긴다. 바인딩 값(이메일, 메모 등 개인 데이터)은
+ * 로그 수집기로 내보내지 않고 SlowQueryLog 에만 보관해 ADMIN 전용 /actuator/slowqueries/{id} 에서
+ * SQL 과 EXPLAIN 을 다시 볼 수 있게 한다.
+ * Cursor 조회는 여는 시간까지만 잰다 (행 수는 순회가 끝나야 알 수 있다).
+ */
+@Slf4j
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+  private static final double[] ROW_BUCKETS = {1, 10, 100, 1_000, 10_000, 100_000};
+
+  private final MeterRegistry meterRegistry;
+  private final SlowQueryLog slowQueryLog;
+  private final long slowThresholdNanos;
+  private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+  public StatementMetricsInterceptor(
+      MeterRegistry meterRegistry,
+      SlowQueryLog slowQueryLog,
+      @Value("${mybatis-metrics.slow-query.threshold:500ms}") Duration slowThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.slowQueryLog = slowQueryLog;
+    this.slowThresholdNanos = slowThreshold.toNanos();
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+    long started = System.nanoTime();
+    Object result = null;
+    boolean success = false;
+    try {
+      result = invocation.proceed();
+      success = true;
+      return result;
+    } finally {
+      long elapsed = System.nanoTime() - started;
+      Integer rows = rowCount(result);
+      Meters m = meters.computeIfAbsent(ms.getId(), id -> new Meters(shortId(id), ms.getSqlCommandType().name()));
+      m.timer(success).record(elapsed, TimeUnit.NANOSECONDS);
+      if (rows != null) {
+        m.rows.record(rows);
+      }
+      if (elapsed >= slowThresholdNanos) {
+        captureSlow(invocation.getArgs(), ms, m.statement, elapsed, rows);
+      }
+    }
+  }
+
+  private void captureSlow(Object[] args, MappedStatement ms, String statement, long elapsedNanos, Integer rows) {
+    try {
+      Object parameter = args[1];
+      BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(parameter);
+      String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+      List<Object> values = boundValues(ms.getConfiguration(), boundSql, parameter);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+      SlowQuery query = new SlowQuery(slowQueryLog.nextId(), statement, ms.getSqlCommandType().name(),
+          elapsedMillis, rows, sql, values, Instant.now());
+      slowQueryLog.add(query);
+      log.warn("Slow statement #{} {} took {}ms (rows={})", query.getId(), statement, elapsedMillis, rows);
+    } catch (RuntimeException e) {
+      // 기록 실패가 본 쿼리 결과에 영향을 주지 않도록 한다
+      log.debug("Failed to capture slow statement {}", statement, e);
+    }
+  }
+
+  /** DefaultParameterHandler 와 같은 규칙으로 ? 순서대로 바인딩 값을 꺼낸다 (enum 은 이름으로) */
+  static List<Object> boundValues(Configuration configuration, BoundSql boundSql, Object parameter) {
+    List<Object> values = new ArrayList<>();
+    MetaObject meta = null;
+    for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+      if (mapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = mapping.getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameter == null) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+        value = parameter;
+      } else {
+        if (meta == null) {
+          meta = configuration.newMetaObject(parameter);
+        }
+        value = meta.getValue(property);
+      }
+      values.add(value instanceof Enum<?> e ? e.name() : value);
+    }
+    return values;
+  }
+
+  private static Integer rowCount(Object result) {
+    if (result instanceof List<?> list) {
+      return list.size();
+    }
+    if (result instanceof Integer updated) {
+      return updated;
+    }
+    return null;   // Cursor 또는 실패
+  }
+
+  /** com.x.transaction.query.mapper.TransactionMapper.findByFilter → TransactionMapper.findByFilter */
+  static String shortId(String id) {
+    int method = id.lastIndexOf('.');
+    int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+    return id.substring(type + 1);
+  }
+
+  private final class Meters {
+
+    private final String statement;
+    private final Timer success;
+    private final Timer error;
+    private final DistributionSummary rows;
+
+    private Meters(String statement, String command) {
+      this.statement = statement;
+      this.success = timer(statement, command, "success");
+      this.error = timer(statement, command, "error");
+      this.rows = DistributionSummary.builder("mybatis.statement.rows")
+          .description("Rows returned or affected per mapper statement")
+          .baseUnit("rows")
+          .tag("statement", statement)
+          .serviceLevelObjectives(ROW_BUCKETS)
+          .register(meterRegistry);
+    }
+
+    private Timer timer(boolean succeeded) {
+      return succeeded ? success : error;
+    }
+
+    private Timer timer(String statement, String command, String outcome) {
+      return Timer.builder("mybatis.statement")
+          .description("Mapper statement execution time")
+          .tag("statement", statement)
+          .tag("command", command)
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.mycompany._thstudy.common.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 응답이 로그인 사용자의 데이터(와 요청 URI/쿼리)만으로 결정되는 GET 핸들러에 붙인다.
+ * ConditionalGetInterceptor 가 사용자 데이터 버전으로 ETag 를 만들고,
+ * If-None-Match 가 일치하면 컨트롤러/매퍼를 거치지 않고 304 로 응답한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+}
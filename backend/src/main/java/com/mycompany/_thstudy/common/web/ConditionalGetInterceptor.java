@@ -0,0 +1,84 @@
+package com.mycompany._thstudy.common.web;
+
+import com.mycompany._thstudy.security.LoginUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * @ConditionalGet 핸들러의 304 처리.
+ * ETag = hash(epoch, userId, 데이터 버전, 오늘 날짜, URI + 쿼리).
+ * 날짜를 넣는 이유: 대시보드/월 요약처럼 "이번 달" 기준 응답은 데이터가 그대로여도 날짜가 바뀌면 달라진다.
+ * ETag 는 조회 전에 계산해 요청 속성에 두고(조회 중 쓰기가 커밋되면 다음 요청에서 어긋나도록),
+ * 응답 헤더에는 ConditionalGetResponseAdvice 가 완전한 2xx 본문에만 붙인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+  static final String ETAG_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".etag";
+  static final String CACHE_CONTROL = "private, no-cache";
+
+  private final UserDataVersion userDataVersion;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)
+        || !handlerMethod.hasMethodAnnotation(ConditionalGet.class)) {
+      return true;
+    }
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !(authentication.getPrincipal() instanceof LoginUser loginUser)) {
+      return true;
+    }
+
+    String etag = buildEtag(loginUser.getUserId(), request);
+    request.setAttribute(ETAG_ATTRIBUTE, etag);
+    if (!matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+      return true;
+    }
+    // 브라우저가 가진 본문은 ETag 를 받은 완전한 응답이므로 그대로 쓰게 한다
+    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    return false;
+  }
+
+  /** If-None-Match 목록 중 하나가 같으면 일치 (약한 비교, W/ 접두어 무시) */
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals(etag) || tag.equals("*")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String buildEtag(Long userId, HttpServletRequest request) {
+    String query = request.getQueryString();
+    String source = userDataVersion.epoch()
+        + ":" + userId
+        + ":" + userDataVersion.current(userId)
+        + ":" + LocalDate.now()
+        + ":" + request.getRequestURI()
+        + (query != null ? "?" + query : "");
+    return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+}
@@ -0,0 +1,52 @@
+package com.mycompany._thstudy.common.web;
+
+import com.mycompany._thstudy.common.dto.ApiResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * @ConditionalGet 핸들러의 응답에 ETag / Cache-Control 을 붙인다.
+ * 2xx 이면서 실패한 부분이 없는 본문(PartialContent.incomplete() 가 아님)에만 붙여,
+ * 오류 응답이나 일부 섹션이 빠진 대시보드가 304 로 계속 재사용되지 않게 한다.
+ * 예외 처리기 응답은 핸들러 메서드가 달라 supports 에서 걸러진다.
+ */
+@ControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return returnType.hasMethodAnnotation(ConditionalGet.class);
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                ServerHttpRequest request, ServerHttpResponse response) {
+    if (!(request instanceof ServletServerHttpRequest servletRequest)
+        || !(response instanceof ServletServerHttpResponse servletResponse)) {
+      return body;
+    }
+    Object etag = servletRequest.getServletRequest().getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE);
+    int status = servletResponse.getServletResponse().getStatus();
+    if (etag == null || status < 200 || status >= 300 || incomplete(body)) {
+      return body;
+    }
+    // 브라우저가 매번 재검증하도록 (사용자별 데이터라 공유 캐시 금지)
+    response.getHeaders().setETag(etag.toString());
+    response.getHeaders().set(HttpHeaders.CACHE_CONTROL, ConditionalGetInterceptor.CACHE_CONTROL);
+    return body;
+  }
+
+  private static boolean incomplete(Object body) {
+    Object content = body instanceof ApiResponse<?> apiResponse ? apiResponse.getData() : body;
+    return content instanceof PartialContent partial && partial.incomplete();
+  }
+}
@@ -0,0 +1,11 @@
+package com.mycompany._thstudy.common.web;
+
+/**
+ * 일부가 빠진 채로 돌려줄 수 있는 응답 본문.
+ * incomplete() 가 true 인 응답에는 ETag 를 붙이지 않아, 브라우저가 불완전한 본문을 304 로 계속 재사용하지 않게 한다.
+ * (getter 이름이 아니므로 JSON 으로 직렬화되지 않는다)
+ */
+public interface PartialContent {
+
+  boolean incomplete();
+}
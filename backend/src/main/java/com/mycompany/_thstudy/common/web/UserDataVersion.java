@@ -0,0 +1,35 @@
+package com.mycompany._thstudy.common.web;
+
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 사용자별 데이터 버전 (조건부 GET 의 ETag 재료).
+ * 명령 측 쓰기가 커밋된 뒤 UserDataChangedEvent 로 1 씩 증가한다. 커밋 전에 올리면
+ * 그 사이 조회가 새 ETag 에 옛 데이터를 묶어 버리므로 AFTER_COMMIT 에서만 올린다.
+ * 메모리에만 두므로 재시작 시 epoch 가 바뀌어 이전 ETag 는 모두 무효가 된다 (단일 인스턴스 기준).
+ */
+@Component
+public class UserDataVersion {
+
+  private final long epoch = System.currentTimeMillis();
+  private final ConcurrentMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+  public long current(Long userId) {
+    return versions.getOrDefault(userId, 0L);
+  }
+
+  public long epoch() {
+    return epoch;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onUserDataChanged(UserDataChangedEvent event) {
+    versions.merge(event.getUserId(), 1L, Long::sum);
+  }
+}
@@ -0,0 +1,44 @@
+package com.mycompany._thstudy.config;
+
+import com.mycompany._thstudy.account.command.application.service.AccountBalanceSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 계좌 원장 백필/스냅샷 명령.
+ *   ./gradlew bootRun --args='--ledger=backfill'          : 원장이 없는 계좌에 현재 잔액으로 시작 행 생성
+ *   ./gradlew bootRun --args='--ledger=snapshot:2024-03-31' : 해당 날짜 마감 스냅샷 (재실행 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountLedgerRunner implements ApplicationRunner {
+
+    private static final String OPTION = "ledger";
+    private static final String SNAPSHOT_PREFIX = "snapshot:";
+
+    private final AccountBalanceSnapshotService accountBalanceSnapshotService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> values = args.getOptionValues(OPTION);
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            if ("backfill".equals(value)) {
+                accountBalanceSnapshotService.backfillOpenings();
+            } else if (value.startsWith(SNAPSHOT_PREFIX)) {
+                accountBalanceSnapshotService.snapshot(LocalDate.parse(value.substring(SNAPSHOT_PREFIX.length())));
+            } else {
+                log.warn("Unknown --{} value: {} (use backfill or snapshot:yyyy-MM-dd)", OPTION, value);
+            }
+        }
+    }
+}
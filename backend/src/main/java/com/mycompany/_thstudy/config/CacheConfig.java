@@ -0,0 +1,67 @@
+package com.mycompany._thstudy.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DASHBOARD = "dashboard";
+    /** 사용자별 카테고리 목록 (목록 API, 이름 중복 검사, 가져오기 이름 매핑) */
+    public static final String CATEGORIES = "categories";
+    /**
+     * 사용자별 계좌 목록 (잔액 포함이라 모든 쓰기 커밋 후 무효화).
+     * 쓰기 커밋 전에 시작한 조회가 무효화 뒤에 옛 잔액을 다시 넣을 수 있으므로
+     * 대시보드처럼 expireAfterWrite 의 짧은 TTL 로 그 값이 오래 남지 않게 한다.
+     */
+    public static final String ACCOUNTS = "accounts";
+
+    /**
+     * 캐시별 크기/TTL 을 따로 두기 위해 이름을 미리 등록한다 (등록되지 않은 이름은 만들지 않음).
+     * recordStats 로 actuator 가 cache.gets / cache.evictions 등을 Prometheus 로 내보낸다.
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.dashboard.max-size:10000}") long dashboardMaxSize,
+            @Value("${cache.dashboard.ttl:60s}") Duration dashboardTtl,
+            @Value("${cache.catalog.max-size:10000}") long catalogMaxSize,
+            @Value("${cache.catalog.ttl:10m}") Duration catalogTtl,
+            @Value("${cache.accounts.ttl:30s}") Duration accountsTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(DASHBOARD, Caffeine.newBuilder()
+                .maximumSize(dashboardMaxSize)
+                .expireAfterWrite(dashboardTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(CATEGORIES, catalogCache(catalogMaxSize, catalogTtl));
+        cacheManager.registerCustomCache(ACCOUNTS, Caffeine.newBuilder()
+                .maximumSize(catalogMaxSize)
+                .expireAfterWrite(accountsTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    /**
+     * 카테고리 목록은 쓰기 커밋 시 무효화되고 잔액처럼 자주 바뀌는 값이 없으므로 TTL 은 안전망일 뿐이다.
+     * 크기 상한으로 최근 활동한 사용자만 남기고, 한동안 안 쓰인 사용자 항목은 expireAfterAccess 로 비운다.
+     */
+    private static Cache<Object, Object> catalogCache(long maxSize, Duration idleTtl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+    }
+}
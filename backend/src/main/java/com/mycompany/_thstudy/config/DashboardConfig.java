@@ -0,0 +1,20 @@
+package com.mycompany._thstudy.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class DashboardConfig {
+
+    // 대시보드 섹션 병렬 조회용 가상 스레드 executor (작업마다 새 가상 스레드, 대기 중에는 캐리어 스레드 반납)
+    // 요청 스레드의 SecurityContext 를 넘겨 섹션 조회도 같은 사용자로 라우팅(read-your-writes)되게 한다
+    @Bean(destroyMethod = "close")
+    public ExecutorService dashboardExecutor() {
+        return new DelegatingSecurityContextExecutorService(Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("dashboard-", 0).factory()));
+    }
+}
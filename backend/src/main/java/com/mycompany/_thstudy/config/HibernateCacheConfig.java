@@ -0,0 +1,75 @@
+package com.mycompany._thstudy.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.mycompany._thstudy.category.command.domain.aggregate.Category;
+import com.mycompany._thstudy.user.command.domain.aggregate.User;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine).
+ * 영역(region)을 여기서 미리 만들고 missing_cache_strategy=fail 로 두어
+ * 크기 상한 없는 캐시가 암묵적으로 생기지 않게 한다.
+ * Account 는 잔액이 벌크 UPDATE/JDBC 배치로 바뀌어 캐시가 어긋나므로 대상에서 뺀다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final List<String> REGIONS = List.of(
+            User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION, Category.CACHE_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${cache.entity.max-size:10000}") long maxSize,
+            @Value("${cache.entity.ttl:30m}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 기본 URI 의 CacheManager 는 같은 클래스로더 안에서 공유된다. 테스트처럼 컨텍스트가 여러 개 뜨면
+        // 두 번째 createCache 가 실패하고, 먼저 닫힌 컨텍스트가 다른 컨텍스트의 캐시까지 닫는다.
+        // 컨텍스트마다 고유 URI 로 따로 만든다
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()), HibernateCacheConfig.class.getClassLoader());
+
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            // JCacheMetrics 가 읽는 JMX 통계
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /** cache.gets / cache.puts / cache.evictions 를 영역별로 Prometheus 에 내보낸다 */
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> REGIONS.forEach(region -> JCacheMetrics.monitor(
+                registry, hibernateCacheManager.getCache(region), Tags.of("cacheManager", "hibernate")));
+    }
+}
@@ -0,0 +1,267 @@
+package com.mycompany._thstudy.config;
+
+import com.mycompany._thstudy.account.command.application.service.AccountBalanceSnapshotService;
+import com.mycompany._thstudy.transaction.command.application.service.MonthlyCategoryTotalRebuildService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대용량 부하 테스트용 합성 데이터 생성기 (loadgen 프로필에서만 동작).
+ *   SPRING_PROFILES_ACTIVE=local,loadgen ./gradlew bootRun
+ * 사용자마다 활동량(로그정규), 카테고리 선택(지프), 지출 금액(로그정규)을 치우치게 만들어
+ * 소수의 헤비 유저와 상위 몇 개 카테고리에 거래가 몰리는 실제 분포를 흉내 낸다.
+ * 사용자 단위로 스레드에 나눠 JDBC 배치로 넣고, 사용자 하나가 한 트랜잭션이다.
+ * 같은 seed 면 같은 데이터가 만들어지며, loadtest 계정이 이미 있으면 아무것도 하지 않는다.
+ * 끝나면 월별 롤업을 재구축하고 계좌 원장 시작 행을 채운다.
+ */
+@Slf4j
+@Component
+@Profile("loadgen")
+@RequiredArgsConstructor
+public class LoadTestDataGenerator implements ApplicationRunner {
+
+    /** 부하 드라이버가 로그인할 계정: load{n}@loadtest.local */
+    public static final String EMAIL_DOMAIN = "@loadtest.local";
+
+    private static final String[] INCOME_NAMES = {"급여", "상여", "이자", "용돈"};
+    private static final String[] EXPENSE_NAMES = {
+            "식비", "카페", "교통", "쇼핑", "주거", "통신", "의료", "문화", "교육", "경조사", "여행", "기타"};
+    private static final String[] DESCRIPTIONS = {"점심", "저녁", "장보기", "택시", "버스", "커피", "간식", "온라인 주문"};
+
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO transactions(user_id, account_id, category_id, type, amount, description, transaction_date, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6), NOW(6))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final MonthlyCategoryTotalRebuildService monthlyCategoryTotalRebuildService;
+    private final AccountBalanceSnapshotService accountBalanceSnapshotService;
+
+    @Value("${loadgen.users:1000}")
+    private int users;
+
+    @Value("${loadgen.accounts-per-user:3}")
+    private int accountsPerUser;
+
+    @Value("${loadgen.categories-per-user:12}")
+    private int categoriesPerUser;
+
+    @Value("${loadgen.years:3}")
+    private int years;
+
+    /** 사용자 한 명의 월 평균 지출 건수 (사용자별 활동량 배수가 곱해진다) */
+    @Value("${loadgen.transactions-per-user-month:60}")
+    private int transactionsPerUserMonth;
+
+    @Value("${loadgen.threads:4}")
+    private int threads;
+
+    @Value("${loadgen.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${loadgen.seed:42}")
+    private long seed;
+
+    @Value("${loadgen.password:loadtest1234!}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, "%" + EMAIL_DOMAIN);
+        if (existing != null && existing > 0) {
+            log.info("Load test data already present ({} users), skipping generation.", existing);
+            return;
+        }
+
+        long started = System.nanoTime();
+        String encodedPassword = passwordEncoder.encode(password);
+        AtomicLong transactions = new AtomicLong();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> transactionTemplate.executeWithoutResult(
+                        status -> transactions.addAndGet(generateUser(index, encodedPassword)))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                futures.get(i).get();
+                if ((i + 1) % 100 == 0) {
+                    log.info("Generated {}/{} users, {} transactions", i + 1, users, transactions.get());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Generated {} users, {} transactions in {}s ({} rows/s)",
+                users, transactions.get(), String.format("%.1f", seconds), Math.round(transactions.get() / seconds));
+
+        // JDBC 로 직접 넣은 거래는 롤업/원장을 거치지 않으므로 다시 채운다
+        monthlyCategoryTotalRebuildService.rebuild();
+        accountBalanceSnapshotService.backfillOpenings();
+        log.info("Rollup rebuilt and ledger openings backfilled.");
+    }
+
+    /** 사용자 한 명의 계정/카테고리/계좌/거래를 만들고 넣은 거래 수를 반환 */
+    private long generateUser(int index, String encodedPassword) {
+        SplittableRandom random = new SplittableRandom(seed * 1_000_003L + index);
+        long userId = insertUser(index, encodedPassword);
+
+        List<Long> incomeCategories = new ArrayList<>();
+        List<Long> expenseCategories = new ArrayList<>();
+        insertCategories(userId, incomeCategories, expenseCategories);
+        List<Long> accounts = insertAccounts(userId);
+
+        // 활동량은 로그정규 분포: 대부분 평균 근처, 소수는 몇 배 많이 쓴다
+        double activity = Math.exp(random.nextGaussian() * 0.75);
+        Map<Long, Long> balances = new HashMap<>();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long count = 0;
+
+        YearMonth end = YearMonth.now();
+        for (YearMonth month = end.minusYears(years).plusMonths(1); !month.isAfter(end); month = month.plusMonths(1)) {
+            // 월급: 주 계좌, 첫 번째 수입 카테고리
+            add(batch, balances, userId, accounts.get(0), incomeCategories.get(0), "INCOME",
+                    2_500_000L + random.nextInt(20) * 100_000L, "월급", safeDay(month, 25));
+
+            int expenses = (int) Math.round(transactionsPerUserMonth * activity * (0.8 + 0.4 * random.nextDouble()));
+            for (int i = 0; i < expenses; i++) {
+                Long accountId = random.nextInt(10) < 7 ? accounts.get(0) : accounts.get(random.nextInt(accounts.size()));
+                Long categoryId = expenseCategories.get(zipf(random, expenseCategories.size()));
+                String description = random.nextInt(10) < 3 ? null : DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+                add(batch, balances, userId, accountId, categoryId, "EXPENSE",
+                        expenseAmount(random), description, month.atDay(1 + random.nextInt(month.lengthOfMonth())));
+            }
+            if (incomeCategories.size() > 1 && random.nextInt(4) == 0) {
+                add(batch, balances, userId, accounts.get(0),
+                        incomeCategories.get(1 + random.nextInt(incomeCategories.size() - 1)), "INCOME",
+                        10_000L + random.nextInt(500) * 1_000L, null, month.atDay(1 + random.nextInt(month.lengthOfMonth())));
+            }
+            if (batch.size() >= batchSize) {
+                count += flush(batch);
+            }
+        }
+        count += flush(batch);
+
+        // 잔액은 거래 누계 (음수가 되는 보조 계좌는 0)
+        List<Object[]> balanceRows = new ArrayList<>();
+        balances.forEach((accountId, net) -> balanceRows.add(new Object[]{Math.max(0L, net), accountId}));
+        jdbcTemplate.batchUpdate("UPDATE accounts SET balance = ? WHERE id = ?", balanceRows);
+        return count;
+    }
+
+    private long insertUser(int index, String encodedPassword) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users(email, password, nickname, role, created_at, updated_at) VALUES (?, ?, ?, 'USER', NOW(6), NOW(6))",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, "load" + index + EMAIL_DOMAIN);
+            ps.setString(2, encodedPassword);
+            ps.setString(3, "load" + index);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /** 6개 중 1개꼴로 수입 카테고리, 나머지는 지출. 기본 이름을 다 쓰면 번호를 붙인다 */
+    private void insertCategories(long userId, List<Long> incomeCategories, List<Long> expenseCategories) {
+        List<Object[]> rows = new ArrayList<>(categoriesPerUser);
+        int income = 0;
+        int expense = 0;
+        for (int i = 0; i < Math.max(2, categoriesPerUser); i++) {
+            boolean isIncome = i % 6 == 0;
+            String name = isIncome ? nameAt(INCOME_NAMES, income++) : nameAt(EXPENSE_NAMES, expense++);
+            rows.add(new Object[]{userId, name, isIncome ? "INCOME" : "EXPENSE"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO categories(user_id, name, type, created_at) VALUES (?, ?, ?, NOW(6))", rows);
+        jdbcTemplate.query("SELECT id, type FROM categories WHERE user_id = ? ORDER BY id", rs -> {
+            ("INCOME".equals(rs.getString("type")) ? incomeCategories : expenseCategories).add(rs.getLong("id"));
+        }, userId);
+    }
+
+    private List<Long> insertAccounts(long userId) {
+        List<Object[]> rows = new ArrayList<>(accountsPerUser);
+        for (int i = 0; i < Math.max(1, accountsPerUser); i++) {
+            rows.add(new Object[]{userId, i == 0 ? "주거래 통장" : "보조 계좌" + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO accounts(user_id, name, balance, created_at, updated_at) VALUES (?, ?, 0, NOW(6), NOW(6))", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM accounts WHERE user_id = ? ORDER BY id", Long.class, userId);
+    }
+
+    private void add(List<Object[]> batch, Map<Long, Long> balances, long userId, Long accountId, Long categoryId,
+                    String type, long amount, String description, LocalDate date) {
+        batch.add(new Object[]{userId, accountId, categoryId, type, amount, description, date});
+        balances.merge(accountId, "INCOME".equals(type) ? amount : -amount, Long::sum);
+    }
+
+    private int flush(List<Object[]> batch) {
+        int size = batch.size();
+        if (size > 0) {
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION, batch);
+            batch.clear();
+        }
+        return size;
+    }
+
+    /** 순위 k 의 확률이 1/(k+1) 에 비례 → 상위 몇 개 카테고리에 거래가 몰린다 */
+    private static int zipf(SplittableRandom random, int size) {
+        double harmonic = 0;
+        for (int k = 1; k <= size; k++) {
+            harmonic += 1.0 / k;
+        }
+        double target = random.nextDouble() * harmonic;
+        double sum = 0;
+        for (int k = 1; k <= size; k++) {
+            sum += 1.0 / k;
+            if (sum >= target) {
+                return k - 1;
+            }
+        }
+        return size - 1;
+    }
+
+    /** 중앙값 약 12,000원, 꼬리가 긴 로그정규 지출 금액 (100원 단위) */
+    private static long expenseAmount(SplittableRandom random) {
+        double amount = Math.exp(Math.log(12_000) + random.nextGaussian() * 0.9);
+        return Math.max(100L, Math.round(amount / 100) * 100);
+    }
+
+    private static LocalDate safeDay(YearMonth month, int day) {
+        return month.atDay(Math.min(day, month.lengthOfMonth()));
+    }
+
+    private static String nameAt(String[] names, int index) {
+        return index < names.length ? names[index] : names[index % names.length] + (index / names.length + 1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany._thstudy.config;
 
+import com.mycompany._thstudy.transaction.command.application.service.MonthlyCategoryTotalRebuildService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -15,13 +16,14 @@ import java.util.List;
 
 @Slf4j
 @Component
-@Profile("local")
+@Profile("local & !loadgen")  // 대용량 데이터에 시드 거래/카테고리를 섞지 않는다
 @RequiredArgsConstructor
 public class LocalMonthlyComparisonSeedRunner implements CommandLineRunner {
 
     private static final String SEED_PREFIX = "[SEED-MONTH-COMPARE]";
     private final JdbcTemplate jdbcTemplate;
     private final PasswordEncoder passwordEncoder;
+    private final MonthlyCategoryTotalRebuildService monthlyCategoryTotalRebuildService;
 
     @Override
     @Transactional
@@ -29,6 +31,8 @@ public class LocalMonthlyComparisonSeedRunner implements CommandLineRunner {
         ensureSeedUserExists();
         ensureCategoriesForAllUsers();
         replaceSeedTransactionsForAllUsers();
+        // JDBC 로 직접 넣은 거래는 롤업을 거치지 않으므로 다시 채운다
+        monthlyCategoryTotalRebuildService.rebuild();
         log.info("Local monthly comparison seed data applied.");
     }
 
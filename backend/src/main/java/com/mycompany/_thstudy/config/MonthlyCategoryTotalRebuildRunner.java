@@ -0,0 +1,56 @@
+package com.mycompany._thstudy.config;
+
+import com.mycompany._thstudy.transaction.command.application.service.MonthlyCategoryTotalRebuildService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 월별 카테고리 롤업 백필/검증.
+ * 기동 시 롤업이 비어 있고 거래가 있으면 웹 요청을 받기 전에 자동으로 재구축한다 (rollup.auto-backfill=false 로 끔).
+ * 수동 명령:
+ *   ./gradlew bootRun --args='--rollup=rebuild'   : transactions 로부터 전체 재구축
+ *   ./gradlew bootRun --args='--rollup=verify'    : 원본 집계와 비교해 불일치 로그 출력
+ * (--spring.main.web-application-type=none 을 함께 주면 실행 후 종료된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyCategoryTotalRebuildRunner implements ApplicationRunner, SmartInitializingSingleton {
+
+    private static final String OPTION = "rollup";
+
+    private final MonthlyCategoryTotalRebuildService monthlyCategoryTotalRebuildService;
+
+    @Value("${rollup.auto-backfill:true}")
+    private boolean autoBackfill;
+
+    /* 모든 싱글톤 생성 직후, 내장 웹 서버가 시작되기 전 (비어 있는 롤업으로 월 요약을 응답하지 않도록) */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (autoBackfill) {
+            monthlyCategoryTotalRebuildService.rebuildIfEmpty();
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> values = args.getOptionValues(OPTION);
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            switch (value) {
+                case "rebuild" -> monthlyCategoryTotalRebuildService.rebuild();
+                case "verify" -> monthlyCategoryTotalRebuildService.verify();
+                default -> log.warn("Unknown --{} value: {} (use rebuild or verify)", OPTION, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.mycompany._thstudy.config;
+
+import com.mycompany._thstudy.common.datasource.ReadWriteRoutingDataSource;
+import com.mycompany._thstudy.common.datasource.ReadYourWritesTracker;
+import com.mycompany._thstudy.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (datasource-routing.enabled=true 일 때만).
+ * 조회 서비스의 @Transactional(readOnly = true) 는 복제본 풀로, 나머지는 주 DB 풀로 간다.
+ * 여기서 만든 readWriteRoutingDataSource 를 WorkloadDataSourceConfig 가 OLTP 대상으로 쓰고,
+ * 꺼져 있으면 OLTP 는 주 DB 풀(primaryDataSource)로 바로 간다.
+ * 복제본 Hikari 풀도 빈으로 등록해 hikaricp.* 메트릭과 헬스 체크가 풀마다 잡히게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource-routing.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("datasource-routing.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource-routing.replica.url}") String url,
+            @Value("${datasource-routing.replica.username}") String username,
+            @Value("${datasource-routing.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        // 복제본에 실수로 쓰지 않도록 커넥션 기본값을 읽기 전용으로
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource replicaDataSource,
+            @Value("${datasource-routing.max-lag:2s}") Duration maxLag,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource-routing.read-your-writes-window:5s}") Duration window,
+            @Value("${datasource-routing.max-lag:2s}") Duration maxLag) {
+        if (window.compareTo(maxLag) <= 0) {
+            throw new IllegalStateException(
+                    "datasource-routing.read-your-writes-window (" + window + ") must be longer than max-lag (" + maxLag + ")");
+        }
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        return new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker, meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.mycompany._thstudy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 활성화 (내보내기 파일 만료 정리 등)
+}
@@ -49,6 +49,8 @@ public class SecurityConfig {
     // 3. authorizeHttpRequests: /api/auth/** → permitAll, 나머지 → authenticated
         .authorizeHttpRequests(auth ->
             auth.requestMatchers(HttpMethod.POST,"/api/auth/**").permitAll()
+                // 느린 문장 SQL/바인딩 값과 EXPLAIN 은 관리자만
+                .requestMatchers("/actuator/slowqueries", "/actuator/slowqueries/**").hasRole("ADMIN")
                 .requestMatchers("/actuator/**").permitAll()
                 .anyRequest().authenticated()
         )
@@ -0,0 +1,104 @@
+package com.mycompany._thstudy.config;
+
+import com.mycompany._thstudy.common.datasource.ReadWriteRoutingDataSource;
+import com.mycompany._thstudy.common.datasource.ReportingWorkload;
+import com.mycompany._thstudy.common.datasource.ReportingWorkloadInterceptor;
+import com.mycompany._thstudy.common.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 작업 부하별 커넥션 풀 분리.
+ * 대화형 API(로그인, CRUD, 대시보드)는 primary 풀(spring.datasource.hikari)을 쓰고,
+ * @ReportingWorkload 메서드(내보내기)는 크기가 따로 정해진 reporting 풀을 쓴다.
+ * 내보내기가 몰려도 reporting 풀과 그 크기의 bulkhead 안에서만 기다리므로 OLTP 풀은 비지 않는다.
+ * JPA/MyBatis/JdbcTemplate 는 모두 @Primary 인 지연 프록시(dataSource)를 쓴다.
+ * datasource-routing 이 켜져 있으면 OLTP 쪽은 ReadWriteRoutingDataSource 를 거쳐 복제본으로도 나뉜다.
+ * 풀 선택은 트랜잭션마다 커넥션을 새로 받을 때 일어나므로 spring.jpa.open-in-view=false 가 전제다.
+ * 켜져 있으면 요청의 EntityManager 가 먼저 잡은 OLTP 커넥션을 @ReportingWorkload 호출도 그대로 써서
+ * reporting 풀을 건너뛴다 (RequestScopedRoutingIntegrationTest 에서 확인).
+ */
+@Configuration
+public class WorkloadDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /** url/username/password 를 비워 두면 spring.datasource 와 같은 DB 에 붙는다 */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("datasource-workload.reporting.hikari")
+    public HikariDataSource reportingDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource-workload.reporting.url:}") String url,
+            @Value("${datasource-workload.reporting.username:}") String username,
+            @Value("${datasource-workload.reporting.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url.isBlank() ? properties.determineUrl() : url)
+                .username(username.isBlank() ? properties.determineUsername() : username)
+                .password(password.isBlank() ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName("reporting");
+        // 내보내기는 조회만 한다
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource reportingDataSource,
+            ObjectProvider<ReadWriteRoutingDataSource> readWriteRoutingDataSource) {
+        DataSource oltp = readWriteRoutingDataSource.getIfAvailable(() -> primaryDataSource);
+        // 트랜잭션 동기화와 WorkloadContext 가 정해진 뒤(첫 문장 실행 시) 대상 풀을 고르도록 지연시킨다
+        return new LazyConnectionDataSourceProxy(new WorkloadRoutingDataSource(oltp, reportingDataSource));
+    }
+
+    /** bulkhead 크기 = reporting 풀 크기 (커넥션을 못 받아 connection-timeout 까지 기다리는 호출이 없도록) */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public ReportingWorkloadInterceptor reportingWorkloadInterceptor(
+            HikariDataSource reportingDataSource,
+            @Value("${datasource-workload.reporting.acquire-timeout:2s}") Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        return new ReportingWorkloadInterceptor(
+                reportingDataSource.getMaximumPoolSize(), acquireTimeout, meterRegistry);
+    }
+
+    /** 트랜잭션 인터셉터보다 바깥에서 실행되도록 가장 높은 우선순위 (거절 시 트랜잭션을 열지 않는다) */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor reportingWorkloadAdvisor(ReportingWorkloadInterceptor reportingWorkloadInterceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ReportingWorkload.class), reportingWorkloadInterceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -1,12 +1,13 @@
 package com.mycompany._thstudy.dashboard.query.controller;
 
 import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.common.web.ConditionalGet;
 import com.mycompany._thstudy.dashboard.query.dto.response.DashboardResponse;
 import com.mycompany._thstudy.dashboard.query.service.DashboardQueryService;
+import com.mycompany._thstudy.security.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,9 +20,10 @@ public class DashboardQueryController {
   private final DashboardQueryService dashboardQueryService;
 
   @GetMapping
+  @ConditionalGet
   public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard(
-      @AuthenticationPrincipal UserDetails userDetails) {
-    DashboardResponse response = dashboardQueryService.getDashboard(userDetails.getUsername());
+      @AuthenticationPrincipal LoginUser loginUser) {
+    DashboardResponse response = dashboardQueryService.getDashboard(loginUser.getUserId());
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 }
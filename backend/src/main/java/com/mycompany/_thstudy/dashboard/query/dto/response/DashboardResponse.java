@@ -1,5 +1,6 @@
 package com.mycompany._thstudy.dashboard.query.dto.response;
 
+import com.mycompany._thstudy.common.web.PartialContent;
 import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,11 +11,19 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class DashboardResponse {
+public class DashboardResponse implements PartialContent {
 
   private Long totalBalance;
   private Long monthlyIncome;
   private Long monthlyExpense;
   private List<TransactionListResponse> recentTransactions;
-}
 
+  // 제한 시간 초과/오류로 비어 있는 섹션 (accounts, monthly, recent). 모두 성공하면 빈 목록
+  private List<String> failedSections;
+
+  /** 빠진 섹션이 있으면 ETag 를 붙이지 않는다 */
+  @Override
+  public boolean incomplete() {
+    return failedSections != null && !failedSections.isEmpty();
+  }
+}
@@ -0,0 +1,18 @@
+package com.mycompany._thstudy.dashboard.query.service;
+
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import com.mycompany._thstudy.config.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 쓰기가 커밋된 뒤에만 해당 사용자의 대시보드 캐시를 비운다 (롤백 시에는 유지) */
+@Component
+public class DashboardCacheEvictor {
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @CacheEvict(cacheNames = CacheConfig.DASHBOARD, key = "#event.userId")
+  public void onUserDataChanged(UserDataChangedEvent event) {
+  }
+}
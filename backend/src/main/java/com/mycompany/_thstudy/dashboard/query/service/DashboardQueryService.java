@@ -2,42 +2,135 @@ package com.mycompany._thstudy.dashboard.query.service;
 
 import com.mycompany._thstudy.account.query.dto.response.AccountSummaryResponse;
 import com.mycompany._thstudy.account.query.service.AccountQueryService;
+import com.mycompany._thstudy.config.CacheConfig;
 import com.mycompany._thstudy.dashboard.query.dto.response.DashboardResponse;
 import com.mycompany._thstudy.transaction.query.dto.response.MonthlySummaryResponse;
 import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
 import com.mycompany._thstudy.transaction.query.service.TransactionQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+/**
+ * 대시보드 조립.
+ * 서로 독립적인 세 조회(계좌 합계, 이번 달 요약, 최근 거래)를 가상 스레드에서 동시에 실행해
+ * 응답 시간이 가장 느린 조회 하나에 가깝도록 한다.
+ * 각 섹션은 자기 스레드에서 section-timeout 을 제한 시간으로 하는 읽기 전용 트랜잭션으로 실행된다.
+ * 트랜잭션 제한 시간은 JDBC query timeout 으로 전달되므로, 시간 초과로 응답에서 빠진 섹션의 쿼리도
+ * DB 에서 중단되어 커넥션을 풀에 돌려준다 (future 의 orTimeout 만으로는 쿼리가 계속 돈다).
+ * 제한 시간을 넘기거나 실패한 섹션은 null 로 두고 failedSections 에 이름을 담아 부분 응답한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class DashboardQueryService {
 
+  private static final String SECTION_ACCOUNTS = "accounts";
+  private static final String SECTION_MONTHLY = "monthly";
+  private static final String SECTION_RECENT = "recent";
+
   private final AccountQueryService accountQueryService;
   private final TransactionQueryService transactionQueryService;
+  private final MeterRegistry meterRegistry;
+
+  // DashboardConfig 의 가상 스레드 executor (파라미터 이름으로 주입)
+  private final ExecutorService dashboardExecutor;
+
+  private final PlatformTransactionManager transactionManager;
+
+  // 섹션별 제한 시간 (세 섹션이 동시에 시작하므로 곧 대시보드 전체의 제한 시간)
+  @Value("${dashboard.section-timeout:2s}")
+  private Duration sectionTimeout;
 
-  public DashboardResponse getDashboard(String userEmail) {
+  /* 사용자별 캐시 (쓰기 커밋 시 DashboardCacheEvictor 가 무효화). 일부 섹션이 실패한 응답은 캐시하지 않는다 */
+  @Cacheable(cacheNames = CacheConfig.DASHBOARD, key = "#userId", unless = "!#result.failedSections.isEmpty()")
+  public DashboardResponse getDashboard(Long userId) {
     LocalDate today = LocalDate.now();
 
-    AccountSummaryResponse accountSummary = accountQueryService.getAccountSummary(userEmail);
-    MonthlySummaryResponse monthlySummary = transactionQueryService.getMonthlySummary(
-        userEmail,
-        today.getYear(),
-        today.getMonthValue()
-    );
-    List<TransactionListResponse> recentTransactions = transactionQueryService.getRecentTransactions(userEmail);
+    CompletableFuture<AccountSummaryResponse> accountsFuture =
+        section(SECTION_ACCOUNTS, () -> accountQueryService.getAccountSummary(userId));
+    CompletableFuture<MonthlySummaryResponse> monthlyFuture =
+        section(SECTION_MONTHLY, () -> transactionQueryService.getMonthlySummary(
+            userId,
+            today.getYear(),
+            today.getMonthValue()
+        ));
+    CompletableFuture<List<TransactionListResponse>> recentFuture =
+        section(SECTION_RECENT, () -> transactionQueryService.getRecentTransactions(userId));
+
+    List<String> failedSections = new ArrayList<>();
+    AccountSummaryResponse accountSummary = await(SECTION_ACCOUNTS, accountsFuture, failedSections);
+    MonthlySummaryResponse monthlySummary = await(SECTION_MONTHLY, monthlyFuture, failedSections);
+    List<TransactionListResponse> recentTransactions = await(SECTION_RECENT, recentFuture, failedSections);
 
     return new DashboardResponse(
-        accountSummary.getTotalBalance(),
-        monthlySummary.getTotalIncome(),
-        monthlySummary.getTotalExpense(),
-        recentTransactions
+        accountSummary != null ? accountSummary.getTotalBalance() : null,
+        monthlySummary != null ? monthlySummary.getTotalIncome() : null,
+        monthlySummary != null ? monthlySummary.getTotalExpense() : null,
+        recentTransactions,
+        failedSections
     );
   }
-}
 
+  /** 가상 스레드에서 조회를 시작하고 실제 소요 시간을 dashboard.section 타이머에 기록 */
+  private <T> CompletableFuture<T> section(String name, Supplier<T> query) {
+    TransactionTemplate transaction = sectionTransaction();
+    return CompletableFuture.supplyAsync(() -> {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      String outcome = "success";
+      try {
+        return transaction.execute(status -> query.get());
+      } catch (RuntimeException e) {
+        outcome = "error";
+        throw e;
+      } finally {
+        sample.stop(Timer.builder("dashboard.section")
+            .description("대시보드 섹션별 조회 시간")
+            .tag("section", name)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+      }
+    }, dashboardExecutor).orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** 조회 서비스의 readOnly 트랜잭션이 참여하는 바깥 트랜잭션 (제한 시간은 초 단위 올림) */
+  private TransactionTemplate sectionTransaction() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setReadOnly(true);
+    transaction.setTimeout((int) Math.max(1, (sectionTimeout.toMillis() + 999) / 1000));
+    return transaction;
+  }
+
+  /** 섹션 결과 대기. 실패/시간 초과면 null 을 반환하고 failedSections 에 기록 */
+  private <T> T await(String name, CompletableFuture<T> future, List<String> failedSections) {
+    try {
+      return future.join();
+    } catch (CompletionException | CancellationException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      String reason = cause instanceof TimeoutException ? "timeout" : "error";
+      meterRegistry.counter("dashboard.section.failures", "section", name, "reason", reason).increment();
+      log.warn("dashboard section '{}' failed: {}", name, reason, cause);
+      failedSections.add(name);
+      return null;
+    }
+  }
+}
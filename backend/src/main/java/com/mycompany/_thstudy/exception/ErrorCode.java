@@ -16,6 +16,8 @@ public enum ErrorCode {
   CATEGORY_TYPE_MISMATCH(HttpStatus.BAD_REQUEST, "BAD_REQUEST_005","카테고리 유형과 거래 유형이 일치하지 않습니다"),
   INSUFFICIENT_BALANCE(HttpStatus.BAD_REQUEST, "BAD_REQUEST_006", "계좌 잔액이 부족합니다."),
   BALANCE_WOULD_BE_NEGATIVE(HttpStatus.BAD_REQUEST, "BAD_REQUEST_007", "해당 거래를 삭제하면 계좌 잔액이 0원 미만이 되어 불가합니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "BAD_REQUEST_008", "유효하지 않은 페이지 커서입니다."),
+  UNSUPPORTED_IMPORT_FILE(HttpStatus.BAD_REQUEST, "BAD_REQUEST_009", "CSV 또는 XLSX 파일만 가져올 수 있습니다."),
 
   // 401
   INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED_001", "유효하지 않은 토큰입니다."),
@@ -29,14 +31,23 @@ public enum ErrorCode {
   CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "NOT_FOUND_002", "카테고리를 찾을 수 없습니다."),
   TRANSACTION_NOT_FOUND(HttpStatus.NOT_FOUND, "NOT_FOUND_003", "거래 내역을 찾을 수 없습니다."),
   ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "NOT_FOUND_004", "계좌를 찾을 수 없습니다."),
+  EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "NOT_FOUND_005", "내보내기 작업을 찾을 수 없습니다."),
+  IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "NOT_FOUND_006", "가져오기 작업을 찾을 수 없습니다."),
 
   // 409
   CATEGORY_HAS_TRANSACTIONS(HttpStatus.CONFLICT, "CONFLICT_001", "해당 카테고리에 거래가 존재하여 삭제할 수 없습니다."),
   CATEGORY_DUPLICATE_NAME(HttpStatus.CONFLICT, "CONFLICT_002", "이미 존재하는 카테고리 입니다."),
+  EXPORT_JOB_NOT_READY(HttpStatus.CONFLICT, "CONFLICT_003", "내보내기 파일이 아직 준비되지 않았습니다."),
+
+  // 429
+  EXPORT_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS_001", "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+  IMPORT_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS_002", "진행 중인 가져오기 작업이 있거나 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+  REPORTING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS_003", "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
   // 500
   INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_ERROR_001", "서버 내부 오류가 발생했습니다."),
-  EXPORT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_ERROR_002", "파일 내보내기에 실패했습니다.");
+  EXPORT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_ERROR_002", "파일 내보내기에 실패했습니다."),
+  IMPORT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_ERROR_003", "파일 가져오기에 실패했습니다.");
 
   private final HttpStatus status;
   private final String code;
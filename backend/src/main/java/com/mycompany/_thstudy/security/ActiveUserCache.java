@@ -0,0 +1,61 @@
+package com.mycompany._thstudy.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 토큰 claim 만으로 principal 을 만들 때 쓰는 계정 상태 확인.
+ * 사용자별 현재 역할(삭제된 계정이면 없음)을 ttl 동안 캐시해 DB 조회를 ttl 당 1회로 줄인다.
+ * 계정 삭제와 역할 변경은 토큰 만료를 기다리지 않고 최대 ttl 안에 반영된다.
+ * ttl 이 0 이면 확인하지 않고 claim 을 그대로 믿는다 (삭제/강등이 토큰 만료까지 반영되지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveUserCache {
+
+    private static final long MAX_USERS = 10_000;
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.active-user-check-ttl:30s}")
+    private Duration ttl;
+
+    private LoadingCache<Long, Optional<String>> cache;
+
+    @PostConstruct
+    void init() {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(MAX_USERS)
+                .build(userId -> userRepository.findById(userId).map(user -> user.getRole().name()));
+    }
+
+    /**
+     * claim 으로 만든 principal 을 현재 계정 상태에 맞춘다.
+     * 삭제된 계정이면 null, 역할이 바뀌었으면 현재 역할로 다시 만든 principal 을 반환한다.
+     */
+    public LoginUser verify(LoginUser claimed) {
+        if (cache == null) {
+            return claimed;
+        }
+        Optional<String> role = cache.get(claimed.getUserId());
+        if (role.isEmpty()) {
+            return null;
+        }
+        String authority = "ROLE_" + role.get();
+        boolean sameRole = claimed.getAuthorities().stream()
+                .allMatch(granted -> authority.equals(granted.getAuthority()));
+        return sameRole ? claimed : new LoginUser(claimed.getUserId(), claimed.getEmail(), null, role.get());
+    }
+}
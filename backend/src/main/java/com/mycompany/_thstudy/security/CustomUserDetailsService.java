@@ -21,10 +21,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .roles(user.getRole().name())   // → "USER" or "ADMIN" → ROLE_USER / ROLE_ADMIN
-                .build();
+        // → "USER" or "ADMIN" → ROLE_USER / ROLE_ADMIN
+        return new LoginUser(user.getId(), user.getEmail(), user.getPassword(), user.getRole().name());
     }
 }
@@ -1,10 +1,12 @@
 package com.mycompany._thstudy.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,27 +24,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final ActiveUserCache activeUserCache;
+
+    // true: 토큰 claim 으로 principal 생성 (요청당 users 조회 없음), false: 매 요청 DB 에서 로드
+    @Value("${jwt.principal-from-claims:true}")
+    private boolean principalFromClaims;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         // 1. Authorization 헤더에서 Bearer 토큰 추출
         String token = getJwtFromRequest(request);
-        // 2. validateToken → getUserIdFromToken
+        // 2. 서명/만료 검증과 claim 추출을 한 번에 (검증 캐시 적중 시 재검증 없음)
         try {
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                // 3. 토큰에서 userEmail 추출
-                String userEmail = jwtTokenProvider.getUserEmailFromJWTToken(token);
-                // 4. userEmail 사용자 정보(UserDetails) 로드 (DB 등에서 조회)
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (StringUtils.hasText(token)) {
+                Claims claims = jwtTokenProvider.parseClaims(token);
+                // 3~4. 토큰에서 사용자 정보(UserDetails) 구성
+                UserDetails userDetails = resolvePrincipal(claims);
 
-                // 5. Authentication 객체 생성 (권한 정보 포함)
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities()
-                        );
+                if (userDetails != null) {
+                    // 5. Authentication 객체 생성 (권한 정보 포함)
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails, null, userDetails.getAuthorities()
+                            );
 
-                // 6. SecurityContextHolder에 Authentication 객체 저장
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // 6. SecurityContextHolder에 Authentication 객체 저장
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (BadCredentialsException e) {
             // 토큰이 만료되었거나 유효하지 않은 경우 인증을 설정하지 않고 통과시킨다.
@@ -52,6 +60,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * claim 모드면 서명 검증된 sub/uid/role 로 바로 principal 을 만든다.
+     * uid 가 없는 이전 토큰이거나 DB 모드면 기존처럼 userEmail 로 조회한다.
+     * 계정 상태 확인(ActiveUserCache)에서 삭제된 계정이면 null → 인증하지 않고,
+     * 역할이 바뀌었으면 토큰의 role 대신 현재 역할로 인증한다.
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        if (principalFromClaims) {
+            LoginUser loginUser = jwtTokenProvider.toLoginUser(claims);
+            if (loginUser != null) {
+                return activeUserCache.verify(loginUser);
+            }
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
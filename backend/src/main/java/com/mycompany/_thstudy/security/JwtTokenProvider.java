@@ -1,5 +1,8 @@
 package com.mycompany._thstudy.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,12 +12,19 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import javax.swing.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+  private static final String USER_ID_CLAIM = "uid";
+  private static final String ROLE_CLAIM = "role";
+
   // TODO: 구현 필요 항목
   // - @Value("${jwt.secret}") String secret
   @Value("${jwt.secret}")
@@ -26,24 +36,42 @@ public class JwtTokenProvider {
   @Value("${jwt.refresh-expiration}")
   private long jwtRefreshExpiration;
 
+  // 검증 완료 토큰 캐시 최대 개수 (0 이면 캐시 안 함)
+  @Value("${jwt.verified-cache-size:10000}")
+  private long verifiedCacheSize;
+
   // - SecretKey secretKey → @PostConstruct에서 초기화
   private SecretKey secretKey;
 
+  // 불변·스레드 안전 → 한 번 만들어 모든 요청에서 재사용
+  private JwtParser jwtParser;
+
+  // SHA-256(token) → 검증된 Claims, 토큰 exp 시각에 만료
+  private Cache<String, Claims> verifiedTokens;
+
   @PostConstruct
   public void init(){
     byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
     this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+    this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+    if (verifiedCacheSize > 0) {
+      this.verifiedTokens = Caffeine.newBuilder()
+          .maximumSize(verifiedCacheSize)
+          .expireAfter(new UntilTokenExpiry())
+          .build();
+    }
   }
 
-  // access Token 생성
-  public String createToken(String email, String role) {
+  // access Token 생성 (uid claim 으로 사용자 PK 포함 → 필터에서 DB 조회 없이 principal 생성)
+  public String createToken(Long userId, String email, String role) {
     // TODO: Jwts.builder()로 JWT 생성
     Date now = new Date();
     Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
     return Jwts.builder()
       .subject(email)
-      .claim("role",role)
+      .claim(USER_ID_CLAIM, userId)
+      .claim(ROLE_CLAIM, role)
       .issuedAt(now)
       .expiration(expiryDate)
       .signWith(secretKey)
@@ -58,7 +86,7 @@ public class JwtTokenProvider {
 
     return Jwts.builder()
         .subject(email)
-        .claim("role",role)
+        .claim(ROLE_CLAIM, role)
         .issuedAt(now)
         .expiration(expiryDate)
         .signWith(secretKey)
@@ -69,21 +97,53 @@ public class JwtTokenProvider {
     return jwtRefreshExpiration;
   }
 
+  /**
+   * 토큰 서명/만료를 한 번만 검증하고 Claims 반환.
+   * 같은 토큰이 다시 오면 캐시된 Claims 를 돌려주며, 캐시 항목은 토큰 exp 시각에 사라진다.
+   */
+  public Claims parseClaims(String token) {
+    if (verifiedTokens == null) {
+      return verify(token);
+    }
+    String key = hash(token);
+    Claims cached = verifiedTokens.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    Claims claims = verify(token);
+    verifiedTokens.put(key, claims);
+    return claims;
+  }
+
   public String getUserEmailFromJWTToken(String token) {
-    // TODO: 토큰 파싱 후 subject(userId) 추출
-    Claims claims = Jwts.parser()
-      .verifyWith(secretKey)
-      .build()
-      .parseSignedClaims(token)
-      .getPayload();
-    return claims.getSubject();
+    return parseClaims(token).getSubject();
+  }
+
+  /**
+   * 검증된 Claims(sub, uid, role)로 principal 생성.
+   * uid 가 없는 이전 발급 토큰이면 null 을 반환한다.
+   */
+  public LoginUser toLoginUser(Claims claims) {
+    Long userId = claims.get(USER_ID_CLAIM, Long.class);
+    String role = claims.get(ROLE_CLAIM, String.class);
+    if (userId == null || role == null) {
+      return null;
+    }
+    return new LoginUser(userId, claims.getSubject(), null, role);
+  }
+
+  public LoginUser getLoginUserFromJWTToken(String token) {
+    return toLoginUser(parseClaims(token));
   }
 
   public boolean validateToken(String token) {
-    // TODO: 토큰 유효성 검증
+    parseClaims(token);
+    return true;
+  }
+
+  private Claims verify(String token) {
     try {
-      Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-      return true;
+      return jwtParser.parseSignedClaims(token).getPayload();
     }
     catch (SecurityException | MalformedJwtException e) {
       throw new BadCredentialsException("Invalid JWT Token", e);
@@ -97,5 +157,42 @@ public class JwtTokenProvider {
     catch (IllegalArgumentException e) {
       throw new BadCredentialsException("JWT Token claims empty", e);
     }
+    catch (JwtException e) {
+      // 서명 불일치(SignatureException) 등
+      throw new BadCredentialsException("Invalid JWT Token", e);
+    }
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** 캐시 항목 수명 = 토큰 exp 까지 남은 시간 */
+  private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+    @Override
+    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+      Date exp = claims.getExpiration();
+      if (exp == null) {
+        return 0;
+      }
+      long remainingMillis = exp.getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
   }
 }
@@ -0,0 +1,39 @@
+package com.mycompany._thstudy.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자 principal.
+ * 이메일과 함께 사용자 PK 를 들고 다녀서, 서비스/매퍼가 users 조인이나 findByEmail 없이 user_id 로 바로 조회한다.
+ */
+@Getter
+public class LoginUser implements UserDetails {
+
+    private final Long userId;
+    private final String email;
+    private final String password;
+    private final List<GrantedAuthority> authorities;
+
+    public LoginUser(Long userId, String email, String password, String role) {
+        this.userId = userId;
+        this.email = email;
+        this.password = password;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
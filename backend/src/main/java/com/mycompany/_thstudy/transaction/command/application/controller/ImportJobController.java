@@ -0,0 +1,39 @@
+package com.mycompany._thstudy.transaction.command.application.controller;
+
+import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.security.LoginUser;
+import com.mycompany._thstudy.transaction.command.application.dto.response.ImportJobResponse;
+import com.mycompany._thstudy.transaction.command.application.service.ImportJobService;
+import com.mycompany._thstudy.transaction.command.importer.ImportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/transactions/import/jobs")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+  private final ImportJobService importJobService;
+
+  /* CSV/XLSX 업로드 → 202 와 작업 id, 진행률은 GET /{jobId} 로 조회 */
+  @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ApiResponse<ImportJobResponse>> submit(
+      @AuthenticationPrincipal LoginUser loginUser,
+      @RequestPart("file") MultipartFile file) {
+    ImportJob job = importJobService.submit(loginUser.getUserId(), file);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(ImportJobResponse.from(job)));
+  }
+
+  @GetMapping("/{jobId}")
+  public ResponseEntity<ApiResponse<ImportJobResponse>> getStatus(
+      @AuthenticationPrincipal LoginUser loginUser,
+      @PathVariable String jobId) {
+    ImportJob job = importJobService.getJob(loginUser.getUserId(), jobId);
+    return ResponseEntity.ok(ApiResponse.success(ImportJobResponse.from(job)));
+  }
+}
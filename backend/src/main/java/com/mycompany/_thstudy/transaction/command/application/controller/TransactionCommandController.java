@@ -1,16 +1,19 @@
 package com.mycompany._thstudy.transaction.command.application.controller;
 
 import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.security.LoginUser;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionBulkCreateRequest;
 import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
 import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionUpdateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse;
 import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionCommandResponse;
+import com.mycompany._thstudy.transaction.command.application.service.TransactionBulkCommandService;
 import com.mycompany._thstudy.transaction.command.application.service.TransactionCommandService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -19,33 +22,44 @@ import org.springframework.web.bind.annotation.*;
 public class TransactionCommandController {
 
   private final TransactionCommandService transactionCommandService;
+  private final TransactionBulkCommandService transactionBulkCommandService;
 
   @PostMapping
   public ResponseEntity<ApiResponse<TransactionCommandResponse>> create(
-          @AuthenticationPrincipal UserDetails userDetails,
+          @AuthenticationPrincipal LoginUser loginUser,
           @Valid @RequestBody TransactionCreateRequest request) {
-    // TODO: transactionCommandService.createTransaction(userDetails.getUsername(), request) → 201
-    TransactionCommandResponse response = transactionCommandService.createTransaction(userDetails.getUsername(),request);
+    // TODO: transactionCommandService.createTransaction(loginUser.getUserId(), request) → 201
+    TransactionCommandResponse response = transactionCommandService.createTransaction(loginUser.getUserId(),request);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
   }
 
+  /* 일괄 등록: 항목별 성공/실패 결과를 요청 순서대로 반환 (유효한 항목은 한 트랜잭션으로 저장) */
+  @PostMapping("/bulk")
+  public ResponseEntity<ApiResponse<TransactionBulkCreateResponse>> createBulk(
+          @AuthenticationPrincipal LoginUser loginUser,
+          @Valid @RequestBody TransactionBulkCreateRequest request) {
+    TransactionBulkCreateResponse response =
+        transactionBulkCommandService.createTransactions(loginUser.getUserId(), request.getItems());
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
   @PutMapping("/{id}")
   public ResponseEntity<ApiResponse<TransactionCommandResponse>> update(
-          @AuthenticationPrincipal UserDetails userDetails,
+          @AuthenticationPrincipal LoginUser loginUser,
           @PathVariable Long id,
           @Valid @RequestBody TransactionUpdateRequest request) {
-    // TODO: transactionCommandService.updateTransaction(userDetails.getUsername(), id, request) → 200
-    TransactionCommandResponse response = transactionCommandService.updateTransaction(userDetails.getUsername(),id,request);
+    // TODO: transactionCommandService.updateTransaction(loginUser.getUserId(), id, request) → 200
+    TransactionCommandResponse response = transactionCommandService.updateTransaction(loginUser.getUserId(),id,request);
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
   @DeleteMapping("/{id}")
   public ResponseEntity<ApiResponse<Void>> delete(
-          @AuthenticationPrincipal UserDetails userDetails,
+          @AuthenticationPrincipal LoginUser loginUser,
           @PathVariable Long id) {
-    // TODO: transactionCommandService.deleteTransaction(userDetails.getUsername(), id) → 204
-    transactionCommandService.deleteTransaction(userDetails.getUsername(),id);
+    // TODO: transactionCommandService.deleteTransaction(loginUser.getUserId(), id) → 204
+    transactionCommandService.deleteTransaction(loginUser.getUserId(),id);
     return ResponseEntity.noContent().build();
   }
 }
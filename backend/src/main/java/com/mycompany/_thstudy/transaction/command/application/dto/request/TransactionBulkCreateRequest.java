@@ -0,0 +1,19 @@
+package com.mycompany._thstudy.transaction.command.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TransactionBulkCreateRequest {
+
+    // 한 요청(= 한 DB 트랜잭션)에 담을 수 있는 최대 건수.
+    // [null] 같은 빈 항목은 서비스에서 NPE(500) 가 되므로 요소 단위로 400 처리한다
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull @Valid TransactionCreateRequest> items;
+}
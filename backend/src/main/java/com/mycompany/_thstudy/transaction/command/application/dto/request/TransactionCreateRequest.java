@@ -4,11 +4,15 @@ import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class TransactionCreateRequest {
 
     private Long accountId;   // 선택 사항 — null 이면 계좌 미지정
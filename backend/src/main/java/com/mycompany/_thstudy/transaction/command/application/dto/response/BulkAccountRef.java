@@ -0,0 +1,14 @@
+package com.mycompany._thstudy.transaction.command.application.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 일괄 등록 검증용 계좌 최소 정보 (행 잠금 후 읽은 잔액) */
+@Getter
+@NoArgsConstructor
+public class BulkAccountRef {
+
+    private Long id;
+    private Long userId;
+    private long balance;
+}
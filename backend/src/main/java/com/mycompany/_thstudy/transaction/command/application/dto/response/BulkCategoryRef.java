@@ -0,0 +1,15 @@
+package com.mycompany._thstudy.transaction.command.application.dto.response;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 일괄 등록 검증용 카테고리 최소 정보 */
+@Getter
+@NoArgsConstructor
+public class BulkCategoryRef {
+
+    private Long id;
+    private Long userId;
+    private CategoryType type;
+}
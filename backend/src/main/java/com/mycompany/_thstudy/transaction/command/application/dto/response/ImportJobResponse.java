@@ -0,0 +1,47 @@
+package com.mycompany._thstudy.transaction.command.application.dto.response;
+
+import com.mycompany._thstudy.transaction.command.importer.ImportFormat;
+import com.mycompany._thstudy.transaction.command.importer.ImportJob;
+import com.mycompany._thstudy.transaction.command.importer.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+
+    private String jobId;
+    private ImportFormat format;
+    private ImportJobStatus status;
+    private String filename;
+    private long fileSize;
+    private long processedRows;
+    private long importedRows;
+    private long duplicateRows;
+    private long failedRows;
+    private List<ImportJob.RowError> errors;   // 앞쪽 최대 ImportJob.MAX_ERRORS 건
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public static ImportJobResponse from(ImportJob job) {
+        return new ImportJobResponse(
+                job.getId(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getFilename(),
+                job.getFileSize(),
+                job.getProcessedRows(),
+                job.getImportedRows(),
+                job.getDuplicateRows(),
+                job.getFailedRows(),
+                job.getErrors(),
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.mycompany._thstudy.transaction.command.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MonthlyCategoryTotalMismatch {
+
+    private Long userId;
+    private LocalDate monthStart;
+    private Long categoryId;
+    private String type;
+    private long expectedAmount;   // transactions 원본 합계
+    private long actualAmount;     // monthly_category_totals 값
+    private long expectedCount;
+    private long actualCount;
+}
@@ -0,0 +1,38 @@
+package com.mycompany._thstudy.transaction.command.application.dto.response;
+
+import com.mycompany._thstudy.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class TransactionBulkCreateResponse {
+
+    private int requested;
+    private int created;
+    private int failed;
+    private List<ItemResult> results;   // 요청 items 와 같은 순서
+
+    @Getter
+    @AllArgsConstructor
+    public static class ItemResult {
+
+        private int index;
+        private boolean success;
+        private Long id;            // 성공 시 생성된 거래 id
+        private String errorCode;   // 실패 시 ErrorCode.code
+        private String message;
+
+        public static ItemResult created(int index, Long id) {
+            return new ItemResult(index, true, id, null, null);
+        }
+
+        public static ItemResult failed(int index, ErrorCode errorCode) {
+            return new ItemResult(index, false, null, errorCode.getCode(), errorCode.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.mycompany._thstudy.transaction.command.application.dto.response;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.transaction.command.domain.aggregate.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 거래 쓰기 검증에 필요한 소유권/유형/이름을 한 번의 조회로 모은 결과.
+ * 카테고리/계좌가 없으면 해당 id 가 null 이다. transaction 은 수정/삭제 경로에서만 채워진다.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionWriteRefs {
+
+    private Transaction transaction;
+
+    private Long categoryId;
+    private Long categoryUserId;
+    private CategoryType categoryType;
+    private String categoryName;
+
+    private Long accountId;
+    private Long accountUserId;
+    private String accountName;
+}
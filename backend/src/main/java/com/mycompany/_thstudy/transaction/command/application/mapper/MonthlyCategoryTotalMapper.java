@@ -0,0 +1,36 @@
+package com.mycompany._thstudy.transaction.command.application.mapper;
+
+import com.mycompany._thstudy.transaction.command.application.dto.response.MonthlyCategoryTotalMismatch;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface MonthlyCategoryTotalMapper {
+
+    /** (user, month, category, type) 행에 금액/건수 증감을 더한다. 행이 없으면 생성 */
+    int addDelta(
+        @Param("userId") Long userId,
+        @Param("monthStart") LocalDate monthStart,
+        @Param("categoryId") Long categoryId,
+        @Param("type") String type,
+        @Param("amountDelta") long amountDelta,
+        @Param("countDelta") int countDelta
+    );
+
+    /** 건수가 0 이 된 카테고리 롤업 행 삭제 (카테고리 삭제 전 호출) */
+    int deleteEmptyByCategoryId(@Param("categoryId") Long categoryId);
+
+    /** 거래가 있는데 롤업 테이블이 비어 있는지 */
+    boolean needsBackfill();
+
+    int deleteAll();
+
+    /** transactions 원본에서 전체 롤업을 다시 채운다 */
+    int insertAllFromTransactions();
+
+    /** 원본 집계와 롤업이 다른 행 (최대 limit 건) */
+    List<MonthlyCategoryTotalMismatch> findMismatches(@Param("limit") int limit);
+}
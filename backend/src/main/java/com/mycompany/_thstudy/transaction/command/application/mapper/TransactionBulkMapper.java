@@ -0,0 +1,29 @@
+package com.mycompany._thstudy.transaction.command.application.mapper;
+
+import com.mycompany._thstudy.transaction.command.application.dto.response.BulkAccountRef;
+import com.mycompany._thstudy.transaction.command.application.dto.response.BulkCategoryRef;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface TransactionBulkMapper {
+
+    /** 요청에 등장한 카테고리를 한 번에 조회 (소유자 포함, 소유권 판단은 서비스에서) */
+    List<BulkCategoryRef> findCategoriesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 요청에 등장한 본인 계좌를 한 번에 조회하며 행 잠금 (잔액 검증 ~ 반영 사이 동시 수정 방지).
+     * 다른 사용자의 계좌는 잠그지 않도록 user_id 로 거른다 (결과에 없으면 ACCOUNT_NOT_FOUND)
+     */
+    List<BulkAccountRef> findAccountsByIdsForUpdate(
+        @Param("userId") Long userId,
+        @Param("ids") Collection<Long> ids);
+
+    /** 가져오기 배치의 해시 중 이미 저장된 것 (uq_transactions_user_import_hash 인덱스 조회) */
+    List<String> findExistingImportHashes(
+        @Param("userId") Long userId,
+        @Param("hashes") Collection<String> hashes);
+}
@@ -0,0 +1,163 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.common.job.ActiveJobLimiter;
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.command.importer.ImportFormat;
+import com.mycompany._thstudy.transaction.command.importer.ImportJob;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 비동기 가져오기 작업 관리.
+ * 요청 스레드는 업로드 파일을 스풀 디렉터리로 옮기고 작업만 등록한 뒤 반환하며,
+ * 고정 크기 워커 풀이 파일을 읽어 저장한다. 진행률은 작업 조회로 확인한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportJobService {
+
+  // 같은 사용자의 가져오기가 동시에 돌면 중복 판단(import_hash)이 서로 엇갈리므로 1건으로 제한
+  private static final int MAX_ACTIVE_JOBS_PER_USER = 1;
+
+  private final TransactionImportService transactionImportService;
+
+  @Value("${import.spool-dir}")
+  private String spoolDirectory;
+
+  @Value("${import.workers:2}")
+  private int workers;
+
+  @Value("${import.queue-capacity:20}")
+  private int queueCapacity;
+
+  @Value("${import.ttl:30m}")
+  private Duration ttl;
+
+  private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+  private final ActiveJobLimiter activeJobs = new ActiveJobLimiter(MAX_ACTIVE_JOBS_PER_USER);
+  private Path spoolDir;
+  private ThreadPoolExecutor executor;
+
+  @PostConstruct
+  public void init() throws IOException {
+    spoolDir = Path.of(spoolDirectory);
+    Files.createDirectories(spoolDir);
+    // 재시작 전에 처리하지 못한 업로드 파일은 작업 정보가 사라졌으므로 정리
+    try (Stream<Path> files = Files.list(spoolDir)) {
+      files.forEach(this::deleteQuietly);
+    }
+
+    AtomicInteger seq = new AtomicInteger();
+    executor = new ThreadPoolExecutor(
+        workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        r -> {
+          Thread t = new Thread(r, "import-worker-" + seq.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  public ImportJob submit(Long userId, MultipartFile file) {
+    ImportFormat format = ImportFormat.fromFilename(file.getOriginalFilename());
+    if (format == null || file.isEmpty()) {
+      throw new BusinessException(ErrorCode.UNSUPPORTED_IMPORT_FILE);
+    }
+    if (!activeJobs.tryAcquire(userId)) {
+      throw new BusinessException(ErrorCode.IMPORT_QUEUE_FULL);
+    }
+
+    ImportJob job = new ImportJob(
+        UUID.randomUUID().toString(), userId, format, file.getOriginalFilename(), file.getSize());
+    // 요청이 끝나면 컨테이너 임시 파일이 지워지므로 워커가 읽을 수 있게 스풀로 옮긴다
+    Path upload = spoolDir.resolve(job.getId() + ".upload");
+    try {
+      file.transferTo(upload);
+    } catch (IOException e) {
+      log.error("Failed to spool import file for job {}", job.getId(), e);
+      deleteQuietly(upload);
+      activeJobs.release(userId);
+      throw new BusinessException(ErrorCode.IMPORT_FAILED);
+    }
+
+    jobs.put(job.getId(), job);
+    try {
+      executor.execute(() -> run(job, upload));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      deleteQuietly(upload);
+      activeJobs.release(userId);
+      throw new BusinessException(ErrorCode.IMPORT_QUEUE_FULL);
+    }
+    return job;
+  }
+
+  /** 다른 사용자의 작업은 존재 여부도 노출하지 않는다 */
+  public ImportJob getJob(Long userId, String jobId) {
+    ImportJob job = jobs.get(jobId);
+    if (job == null || !job.getUserId().equals(userId)) {
+      throw new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND);
+    }
+    return job;
+  }
+
+  @Scheduled(fixedDelayString = "${import.cleanup-interval:60000}")
+  public void purgeExpired() {
+    LocalDateTime threshold = LocalDateTime.now().minus(ttl);
+    jobs.values().removeIf(job ->
+        !job.isActive() && job.getCompletedAt() != null && job.getCompletedAt().isBefore(threshold));
+  }
+
+  private void run(ImportJob job, Path upload) {
+    job.markRunning();
+    try {
+      transactionImportService.importFile(job, upload);
+      job.markCompleted();
+    } catch (Exception e) {
+      // 이미 커밋된 배치는 남는다. 같은 파일을 다시 올리면 저장된 행은 중복으로 건너뛴다
+      log.error("Import job {} failed", job.getId(), e);
+      job.markFailed();
+    } finally {
+      deleteQuietly(upload);
+      activeJobs.release(job.getUserId());
+    }
+  }
+
+  private void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete import file {}", file, e);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.transaction.command.application.dto.response.MonthlyCategoryTotalMismatch;
+import com.mycompany._thstudy.transaction.command.application.mapper.MonthlyCategoryTotalMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/** monthly_category_totals 전체 재구축 / 원본 대비 검증 */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyCategoryTotalRebuildService {
+
+  private static final int MISMATCH_LIMIT = 100;
+
+  private final MonthlyCategoryTotalMapper monthlyCategoryTotalMapper;
+
+  @Transactional
+  public int rebuild() {
+    int deleted = monthlyCategoryTotalMapper.deleteAll();
+    int inserted = monthlyCategoryTotalMapper.insertAllFromTransactions();
+    log.info("monthly_category_totals rebuilt: deleted={}, inserted={}", deleted, inserted);
+    return inserted;
+  }
+
+  /** 롤업이 비어 있을 때만 재구축 (배포 직후 자동 백필). 재구축했으면 true */
+  @Transactional
+  public boolean rebuildIfEmpty() {
+    if (!monthlyCategoryTotalMapper.needsBackfill()) {
+      return false;
+    }
+    log.info("monthly_category_totals is empty, backfilling from transactions");
+    rebuild();
+    return true;
+  }
+
+  @Transactional(readOnly = true)
+  public List<MonthlyCategoryTotalMismatch> verify() {
+    List<MonthlyCategoryTotalMismatch> mismatches = monthlyCategoryTotalMapper.findMismatches(MISMATCH_LIMIT);
+    if (mismatches.isEmpty()) {
+      log.info("monthly_category_totals verified: no mismatch");
+    } else {
+      log.warn("monthly_category_totals has {} mismatch(es) (showing up to {})", mismatches.size(), MISMATCH_LIMIT);
+      mismatches.forEach(m -> log.warn("  {}", m));
+    }
+    return mismatches;
+  }
+}
@@ -0,0 +1,39 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.transaction.command.application.mapper.MonthlyCategoryTotalMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 거래 쓰기 시 monthly_category_totals 증감.
+ * 호출하는 쪽 트랜잭션 안에서 실행되어 거래 쓰기와 함께 커밋/롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlyCategoryTotalUpdater {
+
+  private final MonthlyCategoryTotalMapper monthlyCategoryTotalMapper;
+
+  public void add(Long userId, LocalDate transactionDate, Long categoryId, CategoryType type, long amount) {
+    monthlyCategoryTotalMapper.addDelta(
+        userId, transactionDate.withDayOfMonth(1), categoryId, type.name(), amount, 1);
+  }
+
+  public void subtract(Long userId, LocalDate transactionDate, Long categoryId, CategoryType type, long amount) {
+    monthlyCategoryTotalMapper.addDelta(
+        userId, transactionDate.withDayOfMonth(1), categoryId, type.name(), -amount, -1);
+  }
+
+  /** 여러 거래를 (월, 카테고리, 유형) 단위로 미리 합산해 한 번에 반영 (일괄 등록/가져오기) */
+  public void addTotals(Long userId, LocalDate monthStart, Long categoryId, CategoryType type, long amount, int count) {
+    monthlyCategoryTotalMapper.addDelta(userId, monthStart, categoryId, type.name(), amount, count);
+  }
+
+  /** 거래가 없는 카테고리를 지우기 전에 남아 있는 0 건 행을 정리한다 */
+  public void clearEmpty(Long categoryId) {
+    monthlyCategoryTotalMapper.deleteEmptyByCategoryId(categoryId);
+  }
+}
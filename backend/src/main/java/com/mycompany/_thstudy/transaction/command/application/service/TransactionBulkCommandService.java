@@ -0,0 +1,210 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.account.command.application.service.AccountLedgerRecorder;
+import com.mycompany._thstudy.account.command.domain.aggregate.AccountLedgerEntry;
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.response.BulkAccountRef;
+import com.mycompany._thstudy.transaction.command.application.dto.response.BulkCategoryRef;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse.ItemResult;
+import com.mycompany._thstudy.transaction.command.application.mapper.TransactionBulkMapper;
+import com.mycompany._thstudy.transaction.command.infrastructure.repository.TransactionBatchWriter;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 일괄 등록.
+ * 건별 API 가 행마다 하던 user/category/account 조회를 요청 전체에 대해 IN 조회 2번으로 줄이고,
+ * INSERT 는 JDBC batch, 계좌 잔액은 계좌당 1회, 월별 합계는 (월, 카테고리, 유형)당 1회만 반영한다.
+ * 검증에 실패한 항목은 건너뛰고 결과에 사유를 담으며, 나머지는 한 트랜잭션으로 함께 커밋된다.
+ * 파일 가져오기도 배치 단위로 이 서비스를 호출해 같은 검증/쓰기 경로를 탄다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TransactionBulkCommandService {
+
+  private final TransactionBulkMapper transactionBulkMapper;
+  private final TransactionBatchWriter transactionBatchWriter;
+  private final MonthlyCategoryTotalUpdater monthlyCategoryTotalUpdater;
+  private final AccountLedgerRecorder accountLedgerRecorder;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public TransactionBulkCreateResponse createTransactions(Long userId, List<TransactionCreateRequest> items) {
+    return createTransactions(userId, items, null);
+  }
+
+  /** importHashes: 가져오기 행의 내용 해시 (items 와 같은 순서), 일반 일괄 등록은 null */
+  public TransactionBulkCreateResponse createTransactions(Long userId, List<TransactionCreateRequest> items,
+                                                          List<String> importHashes) {
+
+    // 1. 요청에 등장한 카테고리/계좌를 한 번에 조회 (계좌는 본인 것만 행 잠금)
+    Set<Long> categoryIds = items.stream()
+        .map(TransactionCreateRequest::getCategoryId)
+        .collect(Collectors.toSet());
+    Set<Long> accountIds = items.stream()
+        .map(TransactionCreateRequest::getAccountId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    Map<Long, BulkCategoryRef> categories = transactionBulkMapper.findCategoriesByIds(categoryIds).stream()
+        .collect(Collectors.toMap(BulkCategoryRef::getId, Function.identity()));
+    Map<Long, BulkAccountRef> accounts = accountIds.isEmpty()
+        ? Map.of()
+        : transactionBulkMapper.findAccountsByIdsForUpdate(userId, accountIds).stream()
+            .collect(Collectors.toMap(BulkAccountRef::getId, Function.identity()));
+
+    // 계좌별 진행 중 잔액 (요청 순서대로 반영하며 잔액 부족 판단)
+    Map<Long, Long> runningBalances = new HashMap<>();
+    accounts.values().forEach(a -> runningBalances.put(a.getId(), a.getBalance()));
+
+    // 2. 항목별 검증 → 통과한 항목만 INSERT 대상으로
+    ItemResult[] results = new ItemResult[items.size()];
+    List<TransactionBatchWriter.Row> rows = new ArrayList<>();
+    List<Integer> rowIndexes = new ArrayList<>();
+    List<Long> balancesAfter = new ArrayList<>();   // rows 와 같은 순서, 계좌 미지정이면 null
+
+    for (int i = 0; i < items.size(); i++) {
+      TransactionCreateRequest item = items.get(i);
+      ErrorCode error = validate(userId, item, categories, accounts, runningBalances);
+      if (error != null) {
+        results[i] = ItemResult.failed(i, error);
+        continue;
+      }
+      Long balanceAfter = null;
+      if (item.getAccountId() != null) {
+        balanceAfter = runningBalances.merge(
+            item.getAccountId(), signedAmount(item.getType(), item.getAmount()), Long::sum);
+      }
+      balancesAfter.add(balanceAfter);
+      rows.add(new TransactionBatchWriter.Row(
+          userId,
+          item.getAccountId(),
+          item.getCategoryId(),
+          item.getType(),
+          item.getAmount(),
+          item.getDescription(),
+          item.getTransactionDate(),
+          importHashes != null ? importHashes.get(i) : null
+      ));
+      rowIndexes.add(i);
+    }
+
+    if (!rows.isEmpty()) {
+      // 3. batch INSERT
+      List<Long> ids = transactionBatchWriter.insertAll(rows);
+      for (int r = 0; r < ids.size(); r++) {
+        int index = rowIndexes.get(r);
+        results[index] = ItemResult.created(index, ids.get(r));
+      }
+
+      // 4. 계좌 잔액: 계좌별 순증감을 한 번에
+      Map<Long, Long> deltas = new LinkedHashMap<>();
+      accounts.values().forEach(a -> {
+        long delta = runningBalances.get(a.getId()) - a.getBalance();
+        if (delta != 0) {
+          deltas.put(a.getId(), delta);
+        }
+      });
+      transactionBatchWriter.addToBalances(deltas);
+
+      // 원장: 계좌가 지정된 거래마다 요청 순서대로의 반영 후 잔액을 기록
+      List<AccountLedgerEntry> ledgerEntries = new ArrayList<>();
+      for (int r = 0; r < rows.size(); r++) {
+        TransactionBatchWriter.Row row = rows.get(r);
+        if (row.getAccountId() != null) {
+          ledgerEntries.add(AccountLedgerRecorder.transactionEntry(
+              row.getAccountId(), ids.get(r), signedAmount(row.getType(), row.getAmount()), balancesAfter.get(r)));
+        }
+      }
+      accountLedgerRecorder.recordTransactions(ledgerEntries);
+
+      // 5. 월별 카테고리 합계: (월, 카테고리, 유형)별로 합산 후 반영
+      applyRollup(userId, rows);
+
+      eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+    }
+
+    int created = rows.size();
+    return TransactionBulkCreateResponse.builder()
+        .requested(items.size())
+        .created(created)
+        .failed(items.size() - created)
+        .results(Arrays.asList(results))
+        .build();
+  }
+
+  /** 건별 createTransaction 과 같은 순서/같은 에러 코드로 검증. 통과하면 null */
+  private ErrorCode validate(Long userId, TransactionCreateRequest item,
+                             Map<Long, BulkCategoryRef> categories,
+                             Map<Long, BulkAccountRef> accounts,
+                             Map<Long, Long> runningBalances) {
+    BulkCategoryRef category = categories.get(item.getCategoryId());
+    if (category == null) {
+      return ErrorCode.CATEGORY_NOT_FOUND;
+    }
+    if (category.getType() != item.getType()) {
+      return ErrorCode.CATEGORY_TYPE_MISMATCH;
+    }
+    if (!category.getUserId().equals(userId)) {
+      return ErrorCode.ACCESS_DENIED;
+    }
+    if (item.getAmount() <= 0) {
+      return ErrorCode.NEGATIVE_AMOUNT;
+    }
+    if (item.getAccountId() != null) {
+      // 다른 사용자의 계좌는 조회 단계에서 걸러져 없는 계좌와 같게 처리된다
+      BulkAccountRef account = accounts.get(item.getAccountId());
+      if (account == null) {
+        return ErrorCode.ACCOUNT_NOT_FOUND;
+      }
+      if (item.getType() == CategoryType.EXPENSE
+          && runningBalances.get(account.getId()) < item.getAmount()) {
+        return ErrorCode.INSUFFICIENT_BALANCE;
+      }
+    }
+    return null;
+  }
+
+  private void applyRollup(Long userId, List<TransactionBatchWriter.Row> rows) {
+    Map<RollupKey, long[]> totals = new HashMap<>();
+    for (TransactionBatchWriter.Row row : rows) {
+      RollupKey key = new RollupKey(row.getTransactionDate().withDayOfMonth(1), row.getCategoryId(), row.getType());
+      long[] sum = totals.computeIfAbsent(key, k -> new long[2]);
+      sum[0] += row.getAmount();
+      sum[1]++;
+    }
+    totals.forEach((key, sum) -> monthlyCategoryTotalUpdater.addTotals(
+        userId, key.monthStart, key.categoryId, key.type, sum[0], (int) sum[1]));
+  }
+
+  private static long signedAmount(CategoryType type, long amount) {
+    return type == CategoryType.INCOME ? amount : -amount;
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static class RollupKey {
+    private final LocalDate monthStart;
+    private final Long categoryId;
+    private final CategoryType type;
+  }
+}
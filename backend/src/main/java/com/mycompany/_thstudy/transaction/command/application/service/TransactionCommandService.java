@@ -1,47 +1,61 @@
 package com.mycompany._thstudy.transaction.command.application.service;
 
+import com.mycompany._thstudy.account.command.application.service.AccountLedgerRecorder;
 import com.mycompany._thstudy.account.command.domain.aggregate.Account;
 import com.mycompany._thstudy.account.command.domain.repository.AccountRepository;
 import com.mycompany._thstudy.category.command.domain.aggregate.Category;
 import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
 import com.mycompany._thstudy.category.command.domain.repository.CategoryRepository;
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
 import com.mycompany._thstudy.exception.BusinessException;
 import com.mycompany._thstudy.exception.ErrorCode;
 import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
 import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionUpdateRequest;
 import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionCommandResponse;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionWriteRefs;
 import com.mycompany._thstudy.transaction.command.domain.aggregate.Transaction;
 import com.mycompany._thstudy.transaction.command.domain.repository.TransactionRepository;
+import com.mycompany._thstudy.transaction.command.infrastructure.repository.TransactionWriteLoader;
 import com.mycompany._thstudy.user.command.domain.aggregate.User;
 import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TransactionCommandService {
 
   private final TransactionRepository transactionRepository;
+  private final TransactionWriteLoader transactionWriteLoader;
   private final CategoryRepository categoryRepository;
   private final UserRepository userRepository;
   private final AccountRepository accountRepository;
+  private final MonthlyCategoryTotalUpdater monthlyCategoryTotalUpdater;
+  private final AccountLedgerRecorder accountLedgerRecorder;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public TransactionCommandResponse createTransaction(String userEmail, TransactionCreateRequest request) {
+  public TransactionCommandResponse createTransaction(Long userId, TransactionCreateRequest request) {
     // TODO: 구현
-    // 1. userRepository.findByEmail(userEmail) → USER_NOT_FOUND
-    User user = userRepository.findByEmail(userEmail).orElseThrow(()-> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    // 1. 인증 principal 의 userId 로 참조만 획득 (users SELECT 없음)
+    User user = userRepository.getReferenceById(userId);
 
-    // 2. categoryRepository.findById(request.getCategoryId()) → CATEGORY_NOT_FOUND
-    Category category = categoryRepository.findById(request.getCategoryId()).orElseThrow(()-> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+    // 2. 카테고리/계좌의 소유자·유형·이름을 한 번에 조회 → CATEGORY_NOT_FOUND
+    TransactionWriteRefs refs = transactionWriteLoader
+        .loadForCreate(request.getCategoryId(), request.getAccountId())
+        .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
 
-    if(!category.getType().equals(request.getType())){
+    if (refs.getCategoryType() != request.getType()) {
       throw new BusinessException(ErrorCode.CATEGORY_TYPE_MISMATCH);
     }
 
-    // 3. category.getUser().getEmail().equals(userEmail) 확인 → ACCESS_DENIED
-    if(!category.getUser().getEmail().equals(userEmail)){
+    // 3. category 소유자 id 와 userId 비교 → ACCESS_DENIED
+    if (!refs.getCategoryUserId().equals(userId)) {
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
 
@@ -50,12 +64,15 @@ public class TransactionCommandService {
       throw new BusinessException(ErrorCode.NEGATIVE_AMOUNT);
     }
 
-    Account account = resolveAccount(request.getAccountId(), userEmail);
+    validateAccount(refs, request.getAccountId(), userId);
+    Category category = categoryRepository.getReferenceById(refs.getCategoryId());
+    Account account = referenceAccount(refs);
 
-    // 계좌가 지정된 지출 거래인 경우 잔액 검증
-    if (account != null && request.getType() == CategoryType.EXPENSE
-        && account.getBalance() < request.getAmount()) {
-      throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+    // 계좌 잔액 반영 (수입: +, 지출: -), 지출로 잔액이 0 미만이 되면 INSUFFICIENT_BALANCE
+    // 거래 INSERT 의 FK 검사(계좌 행 공유 잠금)보다 먼저 배타 잠금을 잡아 동시 등록 간 교착을 피한다
+    if (account != null) {
+      addBalance(account.getId(), signedAmount(request.getType(), request.getAmount()),
+          ErrorCode.INSUFFICIENT_BALANCE);
     }
 
     // 4. Transaction.builder()...build() → save()
@@ -71,67 +88,61 @@ public class TransactionCommandService {
 
     Transaction savedTransaction = transactionRepository.save(transaction);
 
-    // 계좌 잔액 반영 (수입: +, 지출: -)
-    applyBalance(account, request.getType(), request.getAmount());
+    // 원장: 거래 id 가 생긴 뒤 반영 후 잔액과 함께 기록
+    if (account != null) {
+      accountLedgerRecorder.recordTransaction(
+          account.getId(), savedTransaction.getId(), signedAmount(request.getType(), request.getAmount()));
+    }
 
-    // 5. TransactionCommandResponse 반환
-    return TransactionCommandResponse.builder()
-        .id(savedTransaction.getId())
-        .accountId(savedTransaction.getAccount() != null ? savedTransaction.getAccount().getId() : null)
-        .accountName(savedTransaction.getAccount() != null ? savedTransaction.getAccount().getName() : null)
-        .type(savedTransaction.getType())
-        .categoryId(savedTransaction.getCategory().getId())
-        .categoryName(savedTransaction.getCategory().getName())
-        .amount(savedTransaction.getAmount())
-        .description(savedTransaction.getDescription())
-        .transactionDate(savedTransaction.getTransactionDate())
-        .build();
+    // 월별 카테고리 합계 반영
+    monthlyCategoryTotalUpdater.add(
+        userId, request.getTransactionDate(), category.getId(), request.getType(), request.getAmount());
+
+    eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+
+    // 5. TransactionCommandResponse 반환 (이름은 로더 결과 사용, 프록시 초기화 없음)
+    return toResponse(savedTransaction, refs);
   }
 
-  public TransactionCommandResponse updateTransaction(String userEmail, Long transactionId, TransactionUpdateRequest request) {
+  public TransactionCommandResponse updateTransaction(Long userId, Long transactionId, TransactionUpdateRequest request) {
     // TODO: 구현
-    // 1. transactionRepository.findById(transactionId) → TRANSACTION_NOT_FOUND
-    Transaction transaction = transactionRepository.findById(transactionId).orElseThrow(
-        ()-> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND)
-    );
-    // 2. transaction.getUser().getEmail().equals(userEmail) 확인 → ACCESS_DENIED
-    if(!transaction.getUser().getEmail().equals(userEmail)){
+    // 1. 거래 + 새 카테고리/계좌 정보를 한 번에 조회 → TRANSACTION_NOT_FOUND
+    TransactionWriteRefs refs = transactionWriteLoader
+        .loadForUpdate(transactionId, request.getCategoryId(), request.getAccountId())
+        .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
+    Transaction transaction = refs.getTransaction();
+
+    // 2. transaction 소유자 id 와 userId 비교 → ACCESS_DENIED
+    if(!transaction.getUser().getId().equals(userId)){
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
-    // 3. categoryRepository.findById(request.getCategoryId()) → CATEGORY_NOT_FOUND
-    Category category = categoryRepository.findById(request.getCategoryId()).orElseThrow(
-        ()-> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)
-    );
+    // 3. 카테고리 존재 → CATEGORY_NOT_FOUND
+    if (refs.getCategoryId() == null) {
+      throw new BusinessException(ErrorCode.CATEGORY_NOT_FOUND);
+    }
 
-    if (!category.getUser().getEmail().equals(userEmail)){
+    if (!refs.getCategoryUserId().equals(userId)) {
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
 
-    if(!category.getType().equals(request.getType())){
+    if (refs.getCategoryType() != request.getType()) {
       throw new BusinessException(ErrorCode.CATEGORY_TYPE_MISMATCH);
     }
 
-    // 수정 전 계좌 상태 캡처 (잔액 되돌리기에 사용)
+    // 수정 전 상태 캡처 (잔액/월별 합계 되돌리기에 사용)
     Account oldAccount = transaction.getAccount();
     CategoryType oldType = transaction.getType();
     Long oldAmount = transaction.getAmount();
+    Long oldCategoryId = transaction.getCategory().getId();
+    LocalDate oldDate = transaction.getTransactionDate();
 
-    Account account = resolveAccount(request.getAccountId(), userEmail);
-
-    // 잔액 검증: 같은 계좌의 지출→지출 수정이면 기존 지출분이 복구될 예정이므로 유효 잔액으로 검증
-    if (account != null && request.getType() == CategoryType.EXPENSE) {
-      long effectiveBalance = account.getBalance();
-      if (oldAccount != null && oldAccount.getId().equals(account.getId())
-          && oldType == CategoryType.EXPENSE) {
-        effectiveBalance += oldAmount;
-      }
-      if (effectiveBalance < request.getAmount()) {
-        throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
-      }
-    }
+    validateAccount(refs, request.getAccountId(), userId);
+    Category category = categoryRepository.getReferenceById(refs.getCategoryId());
+    Account account = referenceAccount(refs);
 
-    // 기존 거래의 계좌 잔액 효과 되돌리기
-    reverseBalance(oldAccount, oldType, oldAmount);
+    // 기존 거래 효과 되돌리기 + 새 거래 효과 반영
+    moveBalance(transactionId, oldAccount, signedAmount(oldType, oldAmount),
+        account, signedAmount(request.getType(), request.getAmount()));
 
     // 5. transaction.update(...)
     transaction.update(
@@ -143,69 +154,123 @@ public class TransactionCommandService {
         request.getTransactionDate()
     );
 
-    // 새 거래의 계좌 잔액 반영
-    applyBalance(account, request.getType(), request.getAmount());
+    // 월별 카테고리 합계: 기존 값 차감 후 새 값 반영
+    monthlyCategoryTotalUpdater.subtract(userId, oldDate, oldCategoryId, oldType, oldAmount);
+    monthlyCategoryTotalUpdater.add(
+        userId, request.getTransactionDate(), category.getId(), request.getType(), request.getAmount());
+
+    eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+
     // 6. TransactionCommandResponse 반환
+    return toResponse(transaction, refs);
+  }
+
+  private static TransactionCommandResponse toResponse(Transaction transaction, TransactionWriteRefs refs) {
     return TransactionCommandResponse.builder()
         .id(transaction.getId())
-        .accountId(transaction.getAccount() != null ? transaction.getAccount().getId() : null)
-        .accountName(transaction.getAccount() != null ? transaction.getAccount().getName() : null)
+        .accountId(refs.getAccountId())
+        .accountName(refs.getAccountName())
         .type(transaction.getType())
-        .categoryId(transaction.getCategory().getId())
-        .categoryName(transaction.getCategory().getName())
+        .categoryId(refs.getCategoryId())
+        .categoryName(refs.getCategoryName())
         .amount(transaction.getAmount())
         .description(transaction.getDescription())
         .transactionDate(transaction.getTransactionDate())
         .build();
   }
 
-  /** 계좌 잔액에 거래 효과 적용 (수입: +, 지출: -) */
-  private void applyBalance(Account account, CategoryType type, Long amount) {
-    if (account == null) return;
-    long delta = (type == CategoryType.INCOME) ? amount : -amount;
-    account.updateBalance(account.getBalance() + delta);
+  /**
+   * 수정 전 거래의 잔액 효과(oldEffect)를 되돌리고 새 효과(newEffect)를 반영.
+   * 같은 계좌면 순증감 한 번으로, 다른 계좌면 id 오름차순으로 갱신해 동시 수정 간 교착을 피한다.
+   * 같은 계좌의 지출→지출 수정은 기존 지출분이 복구된 잔액 기준으로 검증된다.
+   * 다른 계좌로 옮길 때 기존 계좌에서 수입분을 빼다 0 미만이 되면 삭제와 같은 BALANCE_WOULD_BE_NEGATIVE 로 실패한다.
+   */
+  private void moveBalance(Long transactionId, Account oldAccount, long oldEffect,
+                           Account newAccount, long newEffect) {
+    Long oldId = oldAccount != null ? oldAccount.getId() : null;
+    Long newId = newAccount != null ? newAccount.getId() : null;
+    if (Objects.equals(oldId, newId)) {
+      if (newId != null) {
+        postBalance(newId, transactionId, newEffect - oldEffect, ErrorCode.INSUFFICIENT_BALANCE);
+      }
+      return;
+    }
+    if (oldId != null && (newId == null || oldId < newId)) {
+      postBalance(oldId, transactionId, -oldEffect, ErrorCode.BALANCE_WOULD_BE_NEGATIVE);
+      if (newId != null) {
+        postBalance(newId, transactionId, newEffect, ErrorCode.INSUFFICIENT_BALANCE);
+      }
+    } else {
+      postBalance(newId, transactionId, newEffect, ErrorCode.INSUFFICIENT_BALANCE);
+      if (oldId != null) {
+        postBalance(oldId, transactionId, -oldEffect, ErrorCode.BALANCE_WOULD_BE_NEGATIVE);
+      }
+    }
+  }
+
+  /** 잔액 증감 + 원장 기록 (거래 id 가 이미 있는 수정/삭제용) */
+  private void postBalance(Long accountId, Long transactionId, long delta, ErrorCode insufficient) {
+    if (delta == 0) return;
+    addBalance(accountId, delta, insufficient);
+    accountLedgerRecorder.recordTransaction(accountId, transactionId, delta);
+  }
+
+  /** 잔액 원자적 증감. 0 미만이 되어 갱신되지 않으면 insufficient 로 실패 (롤백) */
+  private void addBalance(Long accountId, long delta, ErrorCode insufficient) {
+    if (delta == 0) return;
+    if (accountRepository.addBalance(accountId, delta) == 0) {
+      // 증가인데 갱신이 안 됐다면 그 사이 계좌가 삭제된 경우
+      throw new BusinessException(delta < 0 ? insufficient : ErrorCode.ACCOUNT_NOT_FOUND);
+    }
   }
 
-  /** 계좌 잔액에서 거래 효과 되돌리기 (수입: -, 지출: +) */
-  private void reverseBalance(Account account, CategoryType type, Long amount) {
-    if (account == null) return;
-    long delta = (type == CategoryType.INCOME) ? -amount : amount;
-    account.updateBalance(account.getBalance() + delta);
+  /** 거래가 계좌 잔액에 주는 효과 (수입: +, 지출: -) */
+  private static long signedAmount(CategoryType type, Long amount) {
+    return type == CategoryType.INCOME ? amount : -amount;
   }
 
-  /** accountId가 null이면 null 반환, 있으면 소유권 확인 후 반환 */
-  private Account resolveAccount(Long accountId, String userEmail) {
-    if (accountId == null) return null;
-    Account account = accountRepository.findById(accountId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
-    if (!account.getUser().getEmail().equals(userEmail)) {
+  /** accountId가 null이면 통과, 있으면 로더 결과로 존재/소유권 확인 */
+  private void validateAccount(TransactionWriteRefs refs, Long accountId, Long userId) {
+    if (accountId == null) return;
+    if (refs.getAccountId() == null) {
+      throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+    if (!refs.getAccountUserId().equals(userId)) {
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
-    return account;
   }
 
-  public void deleteTransaction(String userEmail, Long transactionId) {
+  /** 검증을 마친 계좌는 SELECT 없이 프록시로만 연결 */
+  private Account referenceAccount(TransactionWriteRefs refs) {
+    return refs.getAccountId() != null ? accountRepository.getReferenceById(refs.getAccountId()) : null;
+  }
+
+  public void deleteTransaction(Long userId, Long transactionId) {
     // TODO: 구현
-    // 1. transactionRepository.findById(transactionId) → TRANSACTION_NOT_FOUND
-    Transaction transaction = transactionRepository.findById(transactionId).orElseThrow(
+    // 1. 거래 한 행 조회 (계좌/카테고리는 FK 값만 사용) → TRANSACTION_NOT_FOUND
+    Transaction transaction = transactionWriteLoader.loadForDelete(transactionId).orElseThrow(
         ()-> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND)
     );
-    // 2. transaction.getUser().getEmail().equals(userEmail) 확인 → ACCESS_DENIED
-    if(!transaction.getUser().getEmail().equals(userEmail)){
+    // 2. transaction 소유자 id 와 userId 비교 → ACCESS_DENIED
+    if(!transaction.getUser().getId().equals(userId)){
       throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
 
-    // 수입 거래 삭제 시 계좌 잔액이 0원 미만이 되면 차단
+    // 삭제 전 계좌 잔액 효과 되돌리기, 수입 거래 삭제로 잔액이 0원 미만이 되면 차단
     Account txAccount = transaction.getAccount();
-    if (txAccount != null && transaction.getType() == CategoryType.INCOME
-        && txAccount.getBalance() - transaction.getAmount() < 0) {
-      throw new BusinessException(ErrorCode.BALANCE_WOULD_BE_NEGATIVE);
+    if (txAccount != null) {
+      postBalance(txAccount.getId(), transactionId,
+          -signedAmount(transaction.getType(), transaction.getAmount()), ErrorCode.BALANCE_WOULD_BE_NEGATIVE);
     }
 
-    // 삭제 전 계좌 잔액 효과 되돌리기
-    reverseBalance(transaction.getAccount(), transaction.getType(), transaction.getAmount());
+    // 월별 카테고리 합계 차감
+    monthlyCategoryTotalUpdater.subtract(
+        userId, transaction.getTransactionDate(),
+        transaction.getCategory().getId(), transaction.getType(), transaction.getAmount());
 
     // 3. transactionRepository.delete(transaction)
     transactionRepository.delete(transaction);
+
+    eventPublisher.publishEvent(new UserDataChangedEvent(userId));
   }
 }
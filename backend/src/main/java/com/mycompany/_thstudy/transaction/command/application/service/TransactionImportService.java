@@ -0,0 +1,243 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.account.query.dto.response.AccountResponse;
+import com.mycompany._thstudy.account.query.service.AccountQueryService;
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.category.query.dto.response.CategoryResponse;
+import com.mycompany._thstudy.category.query.service.CategoryQueryService;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse.ItemResult;
+import com.mycompany._thstudy.transaction.command.application.mapper.TransactionBulkMapper;
+import com.mycompany._thstudy.transaction.command.importer.ImportFormat;
+import com.mycompany._thstudy.transaction.command.importer.ImportJob;
+import com.mycompany._thstudy.transaction.command.importer.TransactionCsvReader;
+import com.mycompany._thstudy.transaction.command.importer.TransactionXlsxReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 파일 가져오기 파이프라인.
+ * 리더가 한 행씩 넘겨주면 이름 → id 변환, 내용 해시 계산 후 batchSize 만큼 모아
+ * TransactionBulkCommandService 로 저장한다 (배치마다 별도 트랜잭션으로 커밋).
+ * 행 데이터는 배치마다 비우므로 메모리에는 카테고리/계좌 이름 맵과 배치 한 개만 올라간다.
+ * 작업 끝까지 남는 것은 등장 순번 맵뿐이며, 행 내용 대신 8바이트 요약값을 키로 써서
+ * 서로 다른 행 하나당 수십 바이트로 묶인다 (50만 행 파일에서 수십 MB 이하, 행 길이와 무관).
+ *
+ * 파일 형식: 날짜, 유형(수입/지출), 카테고리, 금액, 메모[, 계좌] — 내보내기 파일을 그대로 다시 가져올 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+
+  private static final String HEADER_DATE = "날짜";
+  private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+      DateTimeFormatter.ISO_LOCAL_DATE,
+      DateTimeFormatter.ofPattern("yyyy.M.d"),
+      DateTimeFormatter.ofPattern("yyyy/M/d"),
+      DateTimeFormatter.ofPattern("M/d/yy")   // 날짜 서식 셀의 DataFormatter 기본 표시값
+  );
+
+  private final TransactionBulkCommandService transactionBulkCommandService;
+  private final TransactionBulkMapper transactionBulkMapper;
+  private final CategoryQueryService categoryQueryService;
+  private final AccountQueryService accountQueryService;
+  private final TransactionCsvReader transactionCsvReader;
+  private final TransactionXlsxReader transactionXlsxReader;
+
+  @Value("${import.batch-size:1000}")
+  private int batchSize;
+
+  public void importFile(ImportJob job, Path file) throws IOException {
+    ImportBatch batch = new ImportBatch(job);
+    if (job.getFormat() == ImportFormat.CSV) {
+      try (InputStream in = Files.newInputStream(file)) {
+        transactionCsvReader.read(in, batch::accept);
+      }
+    } else {
+      transactionXlsxReader.read(file, batch::accept);
+    }
+    batch.flush();
+  }
+
+  /** 작업 하나의 상태: 이름 맵, 진행 중 배치, 같은 내용 행의 등장 횟수 */
+  private class ImportBatch {
+
+    private final ImportJob job;
+    private final Long userId;
+    private final Map<String, Long> categoryIds;   // "유형:이름" → id
+    private final Map<String, Long> accountIds;    // 이름 → id
+    private final MessageDigest digest;
+
+    private final List<TransactionCreateRequest> items = new ArrayList<>();
+    private final List<String> hashes = new ArrayList<>();
+    private final List<Integer> rowNumbers = new ArrayList<>();
+
+    // 같은 날 같은 내용의 거래(예: 커피 두 잔)를 구분하기 위한 등장 순번.
+    // 날짜를 포함한 내용의 SHA-256 앞 8바이트를 키로 작업 끝까지 유지한다. 날짜순이 아닌 파일에서도
+    // 같은 행이 떨어져 나오면 순번이 이어져, 두 번째 행이 첫 번째의 중복으로 처리되지 않는다.
+    // 요약값이 우연히 겹쳐도 순번이 하나 밀릴 뿐 같은 파일을 다시 가져오면 같은 해시가 나온다
+    private final Map<Long, Integer> occurrences = new HashMap<>();
+
+    ImportBatch(ImportJob job) {
+      this.job = job;
+      this.userId = job.getUserId();
+      this.categoryIds = categoryQueryService.getCategories(userId).stream()
+          .collect(Collectors.toMap(c -> c.getType() + ":" + c.getName(), CategoryResponse::getId, (a, b) -> a));
+      this.accountIds = accountQueryService.getAccounts(userId).stream()
+          .collect(Collectors.toMap(AccountResponse::getName, AccountResponse::getId, (a, b) -> a));
+      try {
+        this.digest = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    void accept(int rowNumber, List<String> cells) {
+      if (HEADER_DATE.equals(cell(cells, 0))) {
+        return;
+      }
+      job.addProcessed(1);
+
+      LocalDate date = parseDate(cell(cells, 0));
+      CategoryType type = parseType(cell(cells, 1));
+      Long amount = parseAmount(cell(cells, 3));
+      if (date == null || type == null || amount == null) {
+        job.addFailure(rowNumber, ErrorCode.INVALID_INPUT.getCode(), "날짜/유형/금액 형식이 올바르지 않습니다.");
+        return;
+      }
+      String description = cell(cells, 4);
+      if (description.length() > 255) {
+        job.addFailure(rowNumber, ErrorCode.INVALID_INPUT.getCode(), "메모는 255자를 넘을 수 없습니다.");
+        return;
+      }
+
+      Long categoryId = categoryIds.get(type.name() + ":" + cell(cells, 2));
+      if (categoryId == null) {
+        job.addFailure(rowNumber, ErrorCode.CATEGORY_NOT_FOUND.getCode(), ErrorCode.CATEGORY_NOT_FOUND.getMessage());
+        return;
+      }
+      String accountName = cell(cells, 5);
+      Long accountId = null;
+      if (!accountName.isEmpty()) {
+        accountId = accountIds.get(accountName);
+        if (accountId == null) {
+          job.addFailure(rowNumber, ErrorCode.ACCOUNT_NOT_FOUND.getCode(), ErrorCode.ACCOUNT_NOT_FOUND.getMessage());
+          return;
+        }
+      }
+
+      // 순번이 붙어 작업 안에서는 해시가 겹치지 않으므로, 중복은 이전 가져오기에서 저장된 것뿐이다
+      String hash = hash(date, type, categoryId, accountId, amount, description);
+      items.add(new TransactionCreateRequest(
+          accountId, categoryId, type, amount, description.isEmpty() ? null : description, date));
+      hashes.add(hash);
+      rowNumbers.add(rowNumber);
+
+      if (items.size() >= batchSize) {
+        flush();
+      }
+    }
+
+    void flush() {
+      if (items.isEmpty()) {
+        return;
+      }
+      // 이전 가져오기에서 이미 저장된 행은 제외
+      Set<String> existing = new HashSet<>(transactionBulkMapper.findExistingImportHashes(userId, hashes));
+      List<TransactionCreateRequest> newItems = new ArrayList<>(items.size());
+      List<String> newHashes = new ArrayList<>(items.size());
+      List<Integer> newRowNumbers = new ArrayList<>(items.size());
+      for (int i = 0; i < items.size(); i++) {
+        if (existing.contains(hashes.get(i))) {
+          continue;
+        }
+        newItems.add(items.get(i));
+        newHashes.add(hashes.get(i));
+        newRowNumbers.add(rowNumbers.get(i));
+      }
+      job.addDuplicates(items.size() - newItems.size());
+
+      if (!newItems.isEmpty()) {
+        TransactionBulkCreateResponse response =
+            transactionBulkCommandService.createTransactions(userId, newItems, newHashes);
+        for (ItemResult result : response.getResults()) {
+          if (!result.isSuccess()) {
+            job.addFailure(newRowNumbers.get(result.getIndex()), result.getErrorCode(), result.getMessage());
+          }
+        }
+        job.addImported(response.getCreated());
+      }
+
+      items.clear();
+      hashes.clear();
+      rowNumbers.clear();
+    }
+
+    private String hash(LocalDate date, CategoryType type, Long categoryId, Long accountId,
+                        Long amount, String description) {
+      String content = date + "|" + type + "|" + categoryId + "|" + accountId + "|" + amount + "|" + description;
+      long contentKey = ByteBuffer.wrap(digest.digest(content.getBytes(StandardCharsets.UTF_8))).getLong();
+      int occurrence = occurrences.merge(contentKey, 1, Integer::sum);
+      byte[] bytes = digest.digest((content + "|" + occurrence).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(bytes);
+    }
+  }
+
+  private static String cell(List<String> cells, int index) {
+    return index < cells.size() && cells.get(index) != null ? cells.get(index).trim() : "";
+  }
+
+  private static LocalDate parseDate(String value) {
+    for (DateTimeFormatter format : DATE_FORMATS) {
+      try {
+        return LocalDate.parse(value, format);
+      } catch (DateTimeParseException ignored) {
+        // 다음 형식 시도
+      }
+    }
+    return null;
+  }
+
+  private static CategoryType parseType(String value) {
+    return switch (value) {
+      case "수입", "INCOME" -> CategoryType.INCOME;
+      case "지출", "EXPENSE" -> CategoryType.EXPENSE;
+      default -> null;
+    };
+  }
+
+  /** "12,000", "12000원", "12000.0" 처럼 표시 서식이 붙은 금액도 받는다. 정수가 아니거나 1 미만이면 null */
+  private static Long parseAmount(String value) {
+    String digits = value.replace(",", "").replace("원", "").trim();
+    try {
+      long amount = new BigDecimal(digits).longValueExact();
+      return amount >= 1 ? amount : null;
+    } catch (NumberFormatException | ArithmeticException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.mycompany._thstudy.transaction.command.domain.aggregate;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월별 카테고리 합계 읽기 모델.
+ * 거래 쓰기와 같은 DB 트랜잭션에서 증감(upsert)되며, 월 요약은 이 테이블의 소수 행만 읽는다.
+ * 쓰기는 MonthlyCategoryTotalMapper 가 담당하고, 엔티티는 스키마 정의 용도로 둔다.
+ */
+@Entity
+@Table(
+    name = "monthly_category_totals",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uq_monthly_category_totals",
+        columnNames = {"user_id", "month_start", "category_id", "type"}
+    )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MonthlyCategoryTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 해당 월 1일
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CategoryType type;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -14,7 +14,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(
+    name = "transactions",
+    indexes = {
+        // 거래 목록 키셋 페이지네이션 seek (InnoDB 보조 인덱스는 끝에 PK(id)를 달고 있어 별도 인덱스 불필요)
+        @Index(name = "idx_transactions_user_date", columnList = "user_id, transaction_date"),
+        // 월/일 집계 커버링 인덱스 (테이블 본문을 읽지 않고 범위 스캔으로 집계)
+        @Index(name = "idx_transactions_user_date_cover", columnList = "user_id, transaction_date, type, category_id, amount")
+    },
+    uniqueConstraints = {
+        // 같은 파일을 다시 가져와도 이미 들어간 행은 건너뛰도록 (import_hash 가 NULL 인 행은 제약 대상 아님)
+        @UniqueConstraint(name = "uq_transactions_user_import_hash", columnNames = {"user_id", "import_hash"})
+    }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -51,6 +63,10 @@ public class Transaction {
     @Column(nullable = false)
     private LocalDate transactionDate;
 
+    // 파일 가져오기 행의 내용 해시 (SHA-256 hex), 직접 등록한 거래는 null
+    @Column(length = 64, updatable = false)
+    private String importHash;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
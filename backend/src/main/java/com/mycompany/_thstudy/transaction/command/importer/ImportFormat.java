@@ -0,0 +1,24 @@
+package com.mycompany._thstudy.transaction.command.importer;
+
+import java.util.Locale;
+
+public enum ImportFormat {
+
+  CSV,
+  XLSX;
+
+  /** 업로드 파일 확장자로 형식 판단. 지원하지 않으면 null */
+  public static ImportFormat fromFilename(String filename) {
+    if (filename == null) {
+      return null;
+    }
+    String lower = filename.toLowerCase(Locale.ROOT);
+    if (lower.endsWith(".csv")) {
+      return CSV;
+    }
+    if (lower.endsWith(".xlsx")) {
+      return XLSX;
+    }
+    return null;
+  }
+}
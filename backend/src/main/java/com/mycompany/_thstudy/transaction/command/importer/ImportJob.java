@@ -0,0 +1,102 @@
+package com.mycompany._thstudy.transaction.command.importer;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 비동기 가져오기 작업 상태와 진행률.
+ * 워커 스레드가 갱신하고 요청 스레드가 읽으므로 가변 필드는 volatile 로 둔다.
+ * 실패 행은 건수만 모두 세고, 사유는 앞쪽 MAX_ERRORS 건만 보관한다.
+ */
+@Getter
+public class ImportJob {
+
+  public static final int MAX_ERRORS = 100;
+
+  private final String id;
+  private final Long userId;
+  private final ImportFormat format;
+  private final String filename;
+  private final long fileSize;
+  private final LocalDateTime createdAt;
+
+  private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+  private volatile long processedRows;   // 헤더를 제외하고 읽은 행
+  private volatile long importedRows;
+  private volatile long duplicateRows;   // 이미 가져온 행이라 건너뛴 수
+  private volatile long failedRows;
+  private volatile LocalDateTime completedAt;
+
+  private final List<RowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+  public ImportJob(String id, Long userId, ImportFormat format, String filename, long fileSize) {
+    this.id = id;
+    this.userId = userId;
+    this.format = format;
+    this.filename = filename;
+    this.fileSize = fileSize;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  public boolean isActive() {
+    return status == ImportJobStatus.QUEUED || status == ImportJobStatus.RUNNING;
+  }
+
+  public void markRunning() {
+    this.status = ImportJobStatus.RUNNING;
+  }
+
+  public void markCompleted() {
+    this.completedAt = LocalDateTime.now();
+    this.status = ImportJobStatus.COMPLETED;
+  }
+
+  public void markFailed() {
+    this.completedAt = LocalDateTime.now();
+    this.status = ImportJobStatus.FAILED;
+  }
+
+  // 카운터는 워커 스레드 하나만 갱신한다
+  public void addProcessed(int count) {
+    this.processedRows += count;
+  }
+
+  public void addImported(int count) {
+    this.importedRows += count;
+  }
+
+  public void addDuplicates(int count) {
+    this.duplicateRows += count;
+  }
+
+  public void addFailure(int rowNumber, String errorCode, String message) {
+    this.failedRows++;
+    if (errors.size() < MAX_ERRORS) {
+      errors.add(new RowError(rowNumber, errorCode, message));
+    }
+  }
+
+  public List<RowError> getErrors() {
+    synchronized (errors) {
+      return List.copyOf(errors);
+    }
+  }
+
+  @Getter
+  public static class RowError {
+
+    private final int row;
+    private final String errorCode;
+    private final String message;
+
+    public RowError(int row, String errorCode, String message) {
+      this.row = row;
+      this.errorCode = errorCode;
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.mycompany._thstudy.transaction.command.importer;
+
+public enum ImportJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
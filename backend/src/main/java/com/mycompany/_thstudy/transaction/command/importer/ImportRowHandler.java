@@ -0,0 +1,14 @@
+package com.mycompany._thstudy.transaction.command.importer;
+
+import java.util.List;
+
+/**
+ * 파일 리더가 한 행을 읽을 때마다 호출하는 콜백.
+ * cells 는 리더가 다음 행에서 재사용하므로 호출 안에서만 사용한다.
+ */
+@FunctionalInterface
+public interface ImportRowHandler {
+
+  /** rowNumber 는 파일 기준 1부터 시작 (헤더 포함) */
+  void onRow(int rowNumber, List<String> cells);
+}
@@ -0,0 +1,97 @@
+package com.mycompany._thstudy.transaction.command.importer;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 내역 CSV 스트리밍 파서 (RFC 4180).
+ * 파일 전체나 행 목록을 메모리에 올리지 않고 한 글자씩 읽어 행 단위로 콜백하므로
+ * 파일 크기와 관계없이 사용하는 메모리는 한 행 분량이다.
+ * 큰따옴표 필드 안의 쉼표/줄바꿈, "" 이스케이프, CRLF, 내보내기 파일의 BOM 을 처리한다.
+ */
+@Component
+public class TransactionCsvReader {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final char BOM = '\uFEFF';
+
+  public void read(InputStream in, ImportRowHandler handler) throws IOException {
+    Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+    List<String> cells = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean fieldStarted = false;
+    int rowNumber = 0;
+    int c = reader.read();
+    if (c == BOM) {
+      c = reader.read();
+    }
+
+    while (c != -1) {
+      char ch = (char) c;
+      if (quoted) {
+        if (ch == '"') {
+          int next = reader.read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            c = next;
+            continue;
+          }
+        } else {
+          field.append(ch);
+        }
+      } else if (ch == '"' && field.isEmpty()) {
+        quoted = true;
+        fieldStarted = true;
+      } else if (ch == ',') {
+        cells.add(field.toString());
+        field.setLength(0);
+        fieldStarted = true;
+      } else if (ch == '\r' || ch == '\n') {
+        if (ch == '\r') {
+          int next = reader.read();
+          if (next != '\n') {
+            c = next;
+            rowNumber = emitRow(handler, rowNumber, cells, field, fieldStarted);
+            fieldStarted = false;
+            continue;
+          }
+        }
+        rowNumber = emitRow(handler, rowNumber, cells, field, fieldStarted);
+        fieldStarted = false;
+      } else {
+        field.append(ch);
+        fieldStarted = true;
+      }
+      c = reader.read();
+    }
+    // 마지막 행에 줄바꿈이 없는 경우
+    if (fieldStarted || !field.isEmpty()) {
+      emitRow(handler, rowNumber, cells, field, true);
+    }
+  }
+
+  private int emitRow(ImportRowHandler handler, int rowNumber, List<String> cells,
+                      StringBuilder field, boolean fieldStarted) {
+    int current = rowNumber + 1;
+    // 빈 줄은 행 번호만 올리고 건너뛴다
+    if (fieldStarted || !field.isEmpty()) {
+      cells.add(field.toString());
+      handler.onRow(current, cells);
+    }
+    cells.clear();
+    field.setLength(0);
+    return current;
+  }
+}
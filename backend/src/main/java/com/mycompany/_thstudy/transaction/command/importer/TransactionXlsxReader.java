@@ -0,0 +1,92 @@
+package com.mycompany._thstudy.transaction.command.importer;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 거래 내역 XLSX 스트리밍 파서.
+ * XSSFWorkbook 은 시트 전체를 DOM 으로 올려 50만 행이면 수 GB 를 쓰므로,
+ * XSSFReader 로 첫 번째 시트 XML 을 SAX 로 읽으며 행 단위로 콜백한다.
+ * 공유 문자열은 ReadOnlySharedStringsTable 로 읽고, 셀 값은 DataFormatter 로 화면 표시값을 받는다.
+ */
+@Component
+public class TransactionXlsxReader {
+
+  public void read(Path file, ImportRowHandler handler) throws IOException {
+    try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+      XSSFReader reader = new XSSFReader(pkg);
+      ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+      StylesTable styles = reader.getStylesTable();
+
+      Iterator<InputStream> sheets = reader.getSheetsData();
+      if (!sheets.hasNext()) {
+        return;
+      }
+      try (InputStream sheet = sheets.next()) {
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(new XSSFSheetXMLHandler(
+            styles, null, strings, new RowCollector(handler), new DataFormatter(), false));
+        parser.parse(new InputSource(sheet));
+      }
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+      throw new IOException("XLSX 파일을 읽을 수 없습니다: " + file.getFileName(), e);
+    }
+  }
+
+  /** SAX 셀 이벤트를 행 단위 목록으로 모은다. 빈 셀은 이벤트가 없으므로 열 위치로 채운다 */
+  private static class RowCollector implements SheetContentsHandler {
+
+    private final ImportRowHandler handler;
+    private final List<String> cells = new ArrayList<>();
+    private int nextColumn;
+
+    RowCollector(ImportRowHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+      cells.clear();
+      nextColumn = 0;
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      if (!cells.isEmpty()) {
+        handler.onRow(rowNum + 1, cells);
+      }
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+      while (cells.size() < column) {
+        cells.add("");
+      }
+      cells.add(formattedValue != null ? formattedValue : "");
+      nextColumn = column + 1;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.mycompany._thstudy.transaction.command.infrastructure.repository;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 대량 쓰기 (JDBC batch).
+ * Transaction 엔티티는 IDENTITY 전략이라 Hibernate 가 insert 를 batch 로 묶지 못하므로
+ * 일괄 등록/가져오기 경로는 이 클래스로 직접 batch INSERT 한다.
+ * 호출하는 쪽 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchWriter {
+
+  static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_SQL =
+      "INSERT INTO transactions "
+          + "(user_id, account_id, category_id, type, amount, description, transaction_date, import_hash, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String ADD_BALANCE_SQL =
+      "UPDATE accounts SET balance = balance + ?, updated_at = ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** rows 를 BATCH_SIZE 단위로 INSERT 하고 생성된 id 를 rows 순서대로 반환 */
+  public List<Long> insertAll(List<Row> rows) {
+    List<Long> ids = new ArrayList<>(rows.size());
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+      List<Row> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+      KeyHolder keyHolder = new GeneratedKeyHolder();
+      jdbcTemplate.batchUpdate(
+          con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+          new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+              Row row = chunk.get(i);
+              ps.setLong(1, row.getUserId());
+              if (row.getAccountId() != null) {
+                ps.setLong(2, row.getAccountId());
+              } else {
+                ps.setNull(2, Types.BIGINT);
+              }
+              ps.setLong(3, row.getCategoryId());
+              ps.setString(4, row.getType().name());
+              ps.setLong(5, row.getAmount());
+              ps.setString(6, row.getDescription());
+              ps.setObject(7, row.getTransactionDate());
+              ps.setString(8, row.getImportHash());
+              ps.setTimestamp(9, now);
+              ps.setTimestamp(10, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+              return chunk.size();
+            }
+          },
+          keyHolder);
+      for (Map<String, Object> keys : keyHolder.getKeyList()) {
+        ids.add(((Number) keys.values().iterator().next()).longValue());
+      }
+    }
+    return ids;
+  }
+
+  /** 계좌별 순증감을 계좌당 UPDATE 1건으로 반영 */
+  public void addToBalances(Map<Long, Long> deltaByAccountId) {
+    if (deltaByAccountId.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object[]> args = new ArrayList<>(deltaByAccountId.size());
+    deltaByAccountId.forEach((accountId, delta) -> args.add(new Object[]{delta, now, accountId}));
+    jdbcTemplate.batchUpdate(ADD_BALANCE_SQL, args);
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Row {
+
+    private Long userId;
+    private Long accountId;
+    private Long categoryId;
+    private CategoryType type;
+    private Long amount;
+    private String description;
+    private LocalDate transactionDate;
+    private String importHash;   // 파일 가져오기로 생성된 행만 (중복 가져오기 방지), 그 외 null
+  }
+}
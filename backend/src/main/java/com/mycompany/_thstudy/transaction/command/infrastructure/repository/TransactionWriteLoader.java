@@ -0,0 +1,83 @@
+package com.mycompany._thstudy.transaction.command.infrastructure.repository;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionWriteRefs;
+import com.mycompany._thstudy.transaction.command.domain.aggregate.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 거래 쓰기 경로의 검증 로더.
+ * 거래/카테고리/계좌를 각각 findById 하고 연관 엔티티를 지연 로딩하는 대신,
+ * 엔티티 조인(ON) 한 번으로 소유자 id/유형/이름을 함께 읽는다.
+ * 이후 연관관계는 getReferenceById 프록시로만 걸어 추가 SELECT 가 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionWriteLoader {
+
+  private static final String REFS =
+      "c.id AS categoryId, c.user.id AS categoryUserId, c.type AS categoryType, c.name AS categoryName, "
+          + "a.id AS accountId, a.user.id AS accountUserId, a.name AS accountName";
+
+  private static final String CREATE_QUERY =
+      "SELECT " + REFS + " FROM Category c "
+          + "LEFT JOIN Account a ON a.id = :accountId "
+          + "WHERE c.id = :categoryId";
+
+  private static final String UPDATE_QUERY =
+      "SELECT t AS tx, " + REFS + " FROM Transaction t "
+          + "LEFT JOIN Category c ON c.id = :categoryId "
+          + "LEFT JOIN Account a ON a.id = :accountId "
+          + "WHERE t.id = :transactionId";
+
+  private static final String DELETE_QUERY =
+      "SELECT t FROM Transaction t WHERE t.id = :transactionId";
+
+  private final EntityManager entityManager;
+
+  /** 등록: 카테고리가 없으면 empty */
+  public Optional<TransactionWriteRefs> loadForCreate(Long categoryId, Long accountId) {
+    List<Tuple> rows = entityManager.createQuery(CREATE_QUERY, Tuple.class)
+        .setParameter("categoryId", categoryId)
+        .setParameter("accountId", accountId)
+        .getResultList();
+    return rows.stream().findFirst().map(row -> toRefs(null, row));
+  }
+
+  /** 수정: 거래가 없으면 empty, 거래 엔티티는 영속 상태로 함께 반환 */
+  public Optional<TransactionWriteRefs> loadForUpdate(Long transactionId, Long categoryId, Long accountId) {
+    List<Tuple> rows = entityManager.createQuery(UPDATE_QUERY, Tuple.class)
+        .setParameter("transactionId", transactionId)
+        .setParameter("categoryId", categoryId)
+        .setParameter("accountId", accountId)
+        .getResultList();
+    return rows.stream().findFirst().map(row -> toRefs(row.get("tx", Transaction.class), row));
+  }
+
+  /** 삭제: 소유자/계좌/카테고리는 FK 값만 쓰므로 거래 한 행만 읽는다 */
+  public Optional<Transaction> loadForDelete(Long transactionId) {
+    return entityManager.createQuery(DELETE_QUERY, Transaction.class)
+        .setParameter("transactionId", transactionId)
+        .getResultStream()
+        .findFirst();
+  }
+
+  private static TransactionWriteRefs toRefs(Transaction transaction, Tuple row) {
+    return new TransactionWriteRefs(
+        transaction,
+        row.get("categoryId", Long.class),
+        row.get("categoryUserId", Long.class),
+        row.get("categoryType", CategoryType.class),
+        row.get("categoryName", String.class),
+        row.get("accountId", Long.class),
+        row.get("accountUserId", Long.class),
+        row.get("accountName", String.class)
+    );
+  }
+}
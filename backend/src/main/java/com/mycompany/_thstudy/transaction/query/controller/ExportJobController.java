@@ -0,0 +1,93 @@
+package com.mycompany._thstudy.transaction.query.controller;
+
+import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.security.LoginUser;
+import com.mycompany._thstudy.transaction.query.dto.request.ExportJobCreateRequest;
+import com.mycompany._thstudy.transaction.query.dto.response.ExportJobResponse;
+import com.mycompany._thstudy.transaction.query.export.ExportJob;
+import com.mycompany._thstudy.transaction.query.service.ExportJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+@RestController
+@RequestMapping("/api/transactions/export/jobs")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+  // Tomcat NIO 커넥터의 sendfile 지원 여부 / 요청 속성 키
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private final ExportJobService exportJobService;
+
+  @PostMapping
+  public ResponseEntity<ApiResponse<ExportJobResponse>> submit(
+      @AuthenticationPrincipal LoginUser loginUser,
+      @Valid @RequestBody ExportJobCreateRequest request) {
+    ExportJob job = exportJobService.submit(
+        loginUser.getUserId(), request.getFormat(), request.getStartDate(), request.getEndDate());
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(ExportJobResponse.from(job)));
+  }
+
+  @GetMapping("/{jobId}")
+  public ResponseEntity<ApiResponse<ExportJobResponse>> getStatus(
+      @AuthenticationPrincipal LoginUser loginUser,
+      @PathVariable String jobId) {
+    ExportJob job = exportJobService.getJob(loginUser.getUserId(), jobId);
+    return ResponseEntity.ok(ApiResponse.success(ExportJobResponse.from(job)));
+  }
+
+  /*
+   * 완료된 파일 다운로드. 전송 동안 작업을 고정해 만료 정리가 파일을 지우지 못하게 한다.
+   * sendfile 을 지원하는 커넥터면 커널 sendfile 로 힙 복사 없이 보내고 (응답 후 커넥터가 전송),
+   * 아니면 서블릿 출력 스트림으로 일반 복사한다.
+   */
+  @GetMapping("/{jobId}/download")
+  public void download(
+      @AuthenticationPrincipal LoginUser loginUser,
+      @PathVariable String jobId,
+      HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
+    ExportJob job = exportJobService.startDownload(loginUser.getUserId(), jobId);
+    try {
+      String filename = "transactions_" + job.getId() + "." + job.getFormat().getExtension();
+      String contentDisposition = ContentDisposition.attachment()
+          .filename(filename, StandardCharsets.UTF_8)
+          .build()
+          .toString();
+
+      response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+      response.setContentType(job.getFormat().getContentType());
+      response.setContentLengthLong(job.getFileSize());
+
+      if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+        // 실제 전송은 이 메서드가 끝난 뒤라 고정은 풀리지만, 마지막 다운로드 시각부터 ttl 동안은 정리되지 않는다
+        request.setAttribute(SENDFILE_FILENAME, job.getFile().toAbsolutePath().toString());
+        request.setAttribute(SENDFILE_START, 0L);
+        request.setAttribute(SENDFILE_END, job.getFileSize());
+        return;
+      }
+
+      try (InputStream in = Files.newInputStream(job.getFile())) {
+        in.transferTo(response.getOutputStream());
+      }
+    } finally {
+      exportJobService.finishDownload(job);
+    }
+  }
+}
@@ -1,10 +1,13 @@
 package com.mycompany._thstudy.transaction.query.controller;
 
 import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.common.web.ConditionalGet;
+import com.mycompany._thstudy.security.LoginUser;
 import com.mycompany._thstudy.transaction.query.dto.request.TransactionSearchRequest;
 import com.mycompany._thstudy.transaction.query.dto.response.DailySummaryResponse;
 import com.mycompany._thstudy.transaction.query.dto.response.MonthlySummaryResponse;
 import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionPageResponse;
 import com.mycompany._thstudy.transaction.query.service.TransactionQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -13,13 +16,14 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/transactions")
@@ -30,8 +34,9 @@ public class TransactionQueryController {
   private final TransactionQueryService transactionQueryService;
 
   @GetMapping
+  @ConditionalGet
   public ResponseEntity<ApiResponse<List<TransactionListResponse>>> getTransactions(
-      @AuthenticationPrincipal UserDetails userDetails,
+      @AuthenticationPrincipal LoginUser loginUser,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
       @RequestParam(required = false) Long accountId,
@@ -51,42 +56,76 @@ public class TransactionQueryController {
     req.setMinAmount(minAmount);
     req.setMaxAmount(maxAmount);
 
-    List<TransactionListResponse> response = transactionQueryService.getTransactions(userDetails.getUsername(), req);
+    List<TransactionListResponse> response = transactionQueryService.getTransactions(loginUser.getUserId(), req);
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
+  /* size 파라미터가 있으면 키셋(cursor) 페이지 단위로 응답 */
+  @GetMapping(params = "size")
+  @ConditionalGet
+  public ResponseEntity<ApiResponse<TransactionPageResponse>> getTransactionPage(
+      @AuthenticationPrincipal LoginUser loginUser,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      @RequestParam(required = false) Long accountId,
+      @RequestParam(required = false) String type,
+      @RequestParam(required = false) Long categoryId,
+      @RequestParam(required = false) String keyword,
+      @RequestParam(required = false) Long minAmount,
+      @RequestParam(required = false) Long maxAmount,
+      @RequestParam(required = false) String cursor,
+      @RequestParam Integer size) {
+
+    TransactionSearchRequest req = new TransactionSearchRequest();
+    req.setStartDate(startDate);
+    req.setEndDate(endDate);
+    req.setAccountId(accountId);
+    req.setType(type);
+    req.setCategoryId(categoryId);
+    req.setKeyword(keyword);
+    req.setMinAmount(minAmount);
+    req.setMaxAmount(maxAmount);
+    req.setCursor(cursor);
+    req.setSize(size);
+
+    TransactionPageResponse response = transactionQueryService.getTransactionPage(loginUser.getUserId(), req);
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
   @GetMapping("/summary/{year}/{month}")
+  @ConditionalGet
   public ResponseEntity<ApiResponse<MonthlySummaryResponse>> getMonthlySummary(
-      @AuthenticationPrincipal UserDetails userDetails,
+      @AuthenticationPrincipal LoginUser loginUser,
       @PathVariable int year,
       @PathVariable int month){
 
-    // TODO: transactionQueryService.getMonthlySummary(userDetails.getUsername(), year, month) → 200
+    // TODO: transactionQueryService.getMonthlySummary(loginUser.getUserId(), year, month) → 200
     MonthlySummaryResponse response = transactionQueryService.getMonthlySummary(
-        userDetails.getUsername(),year,month
+        loginUser.getUserId(),year,month
     );
 
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
   @GetMapping("/daily/{year}/{month}")
+  @ConditionalGet
   public ResponseEntity<ApiResponse<List<DailySummaryResponse>>> getDailySummary(
-      @AuthenticationPrincipal UserDetails userDetails,
+      @AuthenticationPrincipal LoginUser loginUser,
       @PathVariable int year,
       @PathVariable int month) {
     List<DailySummaryResponse> response = transactionQueryService.getDailySummary(
-        userDetails.getUsername(), year, month
+        loginUser.getUserId(), year, month
     );
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
 	@GetMapping("/export/csv")
 	public ResponseEntity<byte[]> exportCsv(
-		@AuthenticationPrincipal UserDetails userDetails,
+		@AuthenticationPrincipal LoginUser loginUser,
 		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
 		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
-		byte[] csv = transactionQueryService.exportCsv(userDetails.getUsername(), startDate, endDate);
+		byte[] csv = transactionQueryService.exportCsv(loginUser.getUserId(), startDate, endDate);
 		String filename = buildFilename(startDate, endDate, "csv");
 
 		// 빌더를 사용하여 Content-Disposition 헤더 생성
@@ -101,13 +140,48 @@ public class TransactionQueryController {
 			.body(csv);
 	}
 
+	/* 대용량 내보내기: 조회 결과를 메모리에 모으지 않고 응답 스트림으로 바로 기록 */
+	@GetMapping("/export/csv/stream")
+	public ResponseEntity<StreamingResponseBody> streamCsv(
+		@AuthenticationPrincipal LoginUser loginUser,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+		@RequestParam(defaultValue = "false") boolean gzip) {
+
+		Long userId = loginUser.getUserId();
+		String filename = buildFilename(startDate, endDate, "csv");
+
+		StreamingResponseBody body = out -> {
+			if (gzip) {
+				GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true);
+				transactionQueryService.streamCsv(userId, startDate, endDate, gzipOut);
+				gzipOut.finish();
+			} else {
+				transactionQueryService.streamCsv(userId, startDate, endDate, out);
+			}
+		};
+
+		String contentDisposition = ContentDisposition.attachment()
+			.filename(filename, StandardCharsets.UTF_8)
+			.build()
+			.toString();
+
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+			.contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"));
+		if (gzip) {
+			builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return builder.body(body);
+	}
+
 	@GetMapping("/export/xlsx")
 	public ResponseEntity<byte[]> exportXlsx(
-		@AuthenticationPrincipal UserDetails userDetails,
+		@AuthenticationPrincipal LoginUser loginUser,
 		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
 		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
-		byte[] xlsx = transactionQueryService.exportXlsx(userDetails.getUsername(), startDate, endDate);
+		byte[] xlsx = transactionQueryService.exportXlsx(loginUser.getUserId(), startDate, endDate);
 		String filename = buildFilename(startDate, endDate, "xlsx");
 
 		// 빌더를 사용하여 Content-Disposition 헤더 생성
@@ -122,6 +196,29 @@ public class TransactionQueryController {
 			.body(xlsx);
 	}
 
+	/* 대용량 XLSX 내보내기: SXSSF 로 행 윈도우만 메모리에 두고 응답 스트림으로 기록 */
+	@GetMapping("/export/xlsx/stream")
+	public ResponseEntity<StreamingResponseBody> streamXlsx(
+		@AuthenticationPrincipal LoginUser loginUser,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+		Long userId = loginUser.getUserId();
+		String filename = buildFilename(startDate, endDate, "xlsx");
+
+		StreamingResponseBody body = out -> transactionQueryService.streamXlsx(userId, startDate, endDate, out);
+
+		String contentDisposition = ContentDisposition.attachment()
+			.filename(filename, StandardCharsets.UTF_8)
+			.build()
+			.toString();
+
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+			.contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+			.body(body);
+	}
+
   private String buildFilename(LocalDate startDate, LocalDate endDate, String ext) {
   	LocalDate now = LocalDate.now();
     DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyyMMdd");
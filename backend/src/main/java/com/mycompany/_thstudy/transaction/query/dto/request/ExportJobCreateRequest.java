@@ -0,0 +1,17 @@
+package com.mycompany._thstudy.transaction.query.dto.request;
+
+import com.mycompany._thstudy.transaction.query.export.ExportFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class ExportJobCreateRequest {
+
+    @NotNull
+    private ExportFormat format;
+
+    private LocalDate startDate;   // null 이면 이번 달 1일
+    private LocalDate endDate;     // null 이면 오늘
+}
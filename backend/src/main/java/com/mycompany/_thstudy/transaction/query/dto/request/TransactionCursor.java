@@ -0,0 +1,48 @@
+package com.mycompany._thstudy.transaction.query.dto.request;
+
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래 목록 키셋 페이지네이션 커서.
+ * 정렬 키 (transaction_date DESC, id DESC) 의 마지막 위치를 담고,
+ * 클라이언트에는 Base64 URL-safe 문자열로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCursor {
+
+  private static final char SEPARATOR = ':';
+
+  private final LocalDate transactionDate;
+  private final Long id;
+
+  public String encode() {
+    String raw = transactionDate.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static TransactionCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int idx = raw.indexOf(SEPARATOR);
+      if (idx < 0) {
+        throw new BusinessException(ErrorCode.INVALID_CURSOR);
+      }
+      return new TransactionCursor(
+          LocalDate.parse(raw.substring(0, idx)),
+          Long.parseLong(raw.substring(idx + 1))
+      );
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BusinessException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
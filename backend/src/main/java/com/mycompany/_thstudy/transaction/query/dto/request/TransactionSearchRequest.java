@@ -17,4 +17,6 @@ public class TransactionSearchRequest {
     private String keyword;     // description LIKE 검색
     private Long minAmount;     // null 이면 하한 없음
     private Long maxAmount;     // null 이면 상한 없음
+    private String cursor;      // 이전 페이지의 nextCursor (null 이면 첫 페이지)
+    private Integer size;       // 페이지 크기 (null 이면 기본값)
 }
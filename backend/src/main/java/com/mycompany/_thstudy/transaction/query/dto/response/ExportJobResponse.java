@@ -0,0 +1,39 @@
+package com.mycompany._thstudy.transaction.query.dto.response;
+
+import com.mycompany._thstudy.transaction.query.export.ExportFormat;
+import com.mycompany._thstudy.transaction.query.export.ExportJob;
+import com.mycompany._thstudy.transaction.query.export.ExportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponse {
+
+    private String jobId;
+    private ExportFormat format;
+    private ExportJobStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long fileSize;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public static ExportJobResponse from(ExportJob job) {
+        return new ExportJobResponse(
+                job.getId(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getStartDate(),
+                job.getEndDate(),
+                job.getFileSize(),
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
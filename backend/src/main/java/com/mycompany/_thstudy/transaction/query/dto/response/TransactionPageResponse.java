@@ -0,0 +1,18 @@
+package com.mycompany._thstudy.transaction.query.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageResponse {
+
+    private List<TransactionListResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // hasNext 가 false 이면 null
+}
@@ -0,0 +1,15 @@
+package com.mycompany._thstudy.transaction.query.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+  CSV("csv", "text/csv; charset=UTF-8"),
+  XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+  private final String extension;
+  private final String contentType;
+}
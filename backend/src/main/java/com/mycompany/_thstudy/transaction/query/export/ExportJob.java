@@ -0,0 +1,95 @@
+package com.mycompany._thstudy.transaction.query.export;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 내보내기 작업 상태.
+ * 워커 스레드가 상태를 바꾸고 요청 스레드가 읽으므로 가변 필드는 volatile 로 둔다.
+ * 다운로드 중인 파일은 pin 으로 표시해 만료 정리(tryPurge)가 지우지 못하게 한다.
+ */
+@Getter
+public class ExportJob {
+
+  private final String id;
+  private final Long userId;
+  private final ExportFormat format;
+  private final LocalDate startDate;
+  private final LocalDate endDate;
+  private final LocalDateTime createdAt;
+
+  private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+  private volatile Path file;
+  private volatile long fileSize;
+  private volatile LocalDateTime completedAt;
+
+  // 진행 중인 다운로드 수 / 마지막 다운로드 시각 / 정리 여부 (pin, unpin, tryPurge 가 this 로 동기화)
+  private int downloads;
+  private LocalDateTime lastDownloadedAt;
+  private boolean purged;
+
+  public ExportJob(String id, Long userId, ExportFormat format, LocalDate startDate, LocalDate endDate) {
+    this.id = id;
+    this.userId = userId;
+    this.format = format;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  public boolean isActive() {
+    return status == ExportJobStatus.QUEUED || status == ExportJobStatus.RUNNING;
+  }
+
+  public void markRunning() {
+    this.status = ExportJobStatus.RUNNING;
+  }
+
+  public void markCompleted(Path file, long fileSize) {
+    this.file = file;
+    this.fileSize = fileSize;
+    this.completedAt = LocalDateTime.now();
+    this.status = ExportJobStatus.COMPLETED;
+  }
+
+  public void markFailed() {
+    this.completedAt = LocalDateTime.now();
+    this.status = ExportJobStatus.FAILED;
+  }
+
+  /** 다운로드 시작. 이미 정리된 작업이면 false */
+  public synchronized boolean pin() {
+    if (purged) {
+      return false;
+    }
+    downloads++;
+    lastDownloadedAt = LocalDateTime.now();
+    return true;
+  }
+
+  public synchronized void unpin() {
+    downloads--;
+    lastDownloadedAt = LocalDateTime.now();
+  }
+
+  /**
+   * 끝난 지 threshold 이전이고 다운로드 중이 아니면 정리 대상으로 표시하고 true.
+   * 마지막 다운로드 이후로도 ttl 을 다시 세므로, 응답 후 커넥터가 파일을 여는 sendfile 전송도 보호된다.
+   */
+  public synchronized boolean tryPurge(LocalDateTime threshold) {
+    if (isActive() || completedAt == null || downloads > 0) {
+      return false;
+    }
+    LocalDateTime lastUsed = lastDownloadedAt != null && lastDownloadedAt.isAfter(completedAt)
+        ? lastDownloadedAt
+        : completedAt;
+    if (lastUsed.isAfter(threshold)) {
+      return false;
+    }
+    purged = true;
+    return true;
+  }
+}
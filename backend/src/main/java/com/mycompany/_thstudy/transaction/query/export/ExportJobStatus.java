@@ -0,0 +1,8 @@
+package com.mycompany._thstudy.transaction.query.export;
+
+public enum ExportJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,31 @@
+package com.mycompany._thstudy.transaction.query.export;
+
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 거래 내역 CSV 렌더러.
+ * 메모리 버퍼(StringBuilder)와 응답 스트림(Writer) 양쪽에 같은 포맷으로 기록할 수 있도록 Appendable 로 받는다.
+ */
+@Component
+public class TransactionCsvWriter {
+
+  private static final String BOM = "\uFEFF"; // BOM (한글 깨짐 방지)
+  private static final String HEADER = "날짜,유형,카테고리,금액,메모\n";
+
+  public void writeHeader(Appendable out) throws IOException {
+    out.append(BOM).append(HEADER);
+  }
+
+  public void writeRow(Appendable out, TransactionListResponse t) throws IOException {
+    out.append('"').append(String.valueOf(t.getTransactionDate())).append('"').append(',')
+        .append("INCOME".equals(t.getType()) ? "수입" : "지출").append(',')
+        .append(t.getCategoryName()).append(',')
+        .append(String.valueOf(t.getAmount())).append(',')
+        // 메모(Description) 부분은 큰따옴표로 감싼다
+        .append('"').append(t.getDescription() != null ? t.getDescription() : "").append('"')
+        .append('\n');
+  }
+}
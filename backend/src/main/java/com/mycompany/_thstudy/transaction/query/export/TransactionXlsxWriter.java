@@ -0,0 +1,140 @@
+package com.mycompany._thstudy.transaction.query.export;
+
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 거래 내역 XLSX 렌더러.
+ * - writeWorkbook : XSSFWorkbook 전체를 메모리에 올리고 autoSizeColumn 으로 너비 계산 (소량 내보내기용)
+ * - writeStreaming: SXSSFWorkbook 으로 ROW_WINDOW 행만 메모리에 두고 나머지는 임시 파일로 내보낸다.
+ *                   열 너비는 고정 최소값 + 앞쪽 SAMPLE_ROWS 행 샘플링으로 정한다.
+ */
+@Component
+public class TransactionXlsxWriter {
+
+  static final int ROW_WINDOW = 100;
+  static final int SAMPLE_ROWS = 500;
+
+  private static final String SHEET_NAME = "거래내역";
+  private static final String[] COLUMNS = {"날짜", "유형", "카테고리", "금액", "메모"};
+  // 열별 최소 너비 (글자 수)
+  private static final int[] MIN_WIDTHS = {12, 6, 12, 14, 20};
+  private static final int MAX_WIDTH = 60;
+
+  public void writeWorkbook(Iterable<TransactionListResponse> rows, OutputStream out) throws IOException {
+    try (Workbook workbook = new XSSFWorkbook()) {
+      Sheet sheet = workbook.createSheet(SHEET_NAME);
+      writeHeader(workbook, sheet);
+
+      int rowIdx = 1;
+      for (TransactionListResponse t : rows) {
+        writeRow(sheet.createRow(rowIdx++), t);
+      }
+
+      // 열 너비 자동 조정 (모든 셀을 측정하므로 대량 데이터에서는 느리다)
+      for (int i = 0; i < COLUMNS.length; i++) {
+        sheet.autoSizeColumn(i);
+      }
+      workbook.write(out);
+    }
+  }
+
+  public void writeStreaming(Iterable<TransactionListResponse> rows, OutputStream out) throws IOException {
+    SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+    workbook.setCompressTempFiles(true); // 임시 파일 gzip 압축 (디스크 사용량 절감)
+    try {
+      Sheet sheet = workbook.createSheet(SHEET_NAME);
+      writeHeader(workbook, sheet);
+
+      int[] widths = MIN_WIDTHS.clone();
+      int rowIdx = 1;
+      for (TransactionListResponse t : rows) {
+        writeRow(sheet.createRow(rowIdx), t);
+        if (rowIdx <= SAMPLE_ROWS) {
+          sampleWidths(widths, t);
+        }
+        rowIdx++;
+      }
+
+      // 열 너비는 시트 XML 작성 시점에 반영되므로 행을 모두 쓴 뒤 설정해도 된다
+      for (int i = 0; i < COLUMNS.length; i++) {
+        sheet.setColumnWidth(i, (Math.min(widths[i], MAX_WIDTH) + 2) * 256);
+      }
+      workbook.write(out);
+    } finally {
+      workbook.dispose(); // 임시 파일 삭제
+      workbook.close();
+    }
+  }
+
+  private void writeHeader(Workbook workbook, Sheet sheet) {
+    CellStyle headerStyle = createHeaderStyle(workbook);
+    Row headerRow = sheet.createRow(0);
+    for (int i = 0; i < COLUMNS.length; i++) {
+      Cell cell = headerRow.createCell(i);
+      cell.setCellValue(COLUMNS[i]);
+      cell.setCellStyle(headerStyle);
+    }
+  }
+
+  private void writeRow(Row row, TransactionListResponse t) {
+    row.createCell(0).setCellValue(t.getTransactionDate().toString());
+    row.createCell(1).setCellValue(typeLabel(t.getType()));
+    row.createCell(2).setCellValue(t.getCategoryName());
+    // 금액: 숫자로 입력해야 엑셀에서 합계 계산이 가능
+    row.createCell(3).setCellValue(t.getAmount().doubleValue());
+    row.createCell(4).setCellValue(t.getDescription() != null ? t.getDescription() : "");
+  }
+
+  private void sampleWidths(int[] widths, TransactionListResponse t) {
+    widths[2] = Math.max(widths[2], displayWidth(t.getCategoryName()));
+    widths[3] = Math.max(widths[3], String.valueOf(t.getAmount()).length());
+    widths[4] = Math.max(widths[4], displayWidth(t.getDescription()));
+  }
+
+  /** 한글 등 전각 문자는 2칸으로 계산 */
+  private int displayWidth(String value) {
+    if (value == null) return 0;
+    int width = 0;
+    for (int i = 0; i < value.length(); i++) {
+      width += value.charAt(i) >= 0x1100 ? 2 : 1;
+    }
+    return width;
+  }
+
+  private String typeLabel(String type) {
+    return "INCOME".equals(type) ? "수입" : "지출";
+  }
+
+  // 헤더를 예쁘게 꾸며주는 보조 메서드
+  private CellStyle createHeaderStyle(Workbook workbook) {
+    CellStyle style = workbook.createCellStyle();
+    // 배경색 설정 (밝은 회색)
+    style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+    style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+    // 테두리 설정
+    style.setBorderBottom(BorderStyle.THIN);
+    // 글꼴 설정 (굵게)
+    Font font = workbook.createFont();
+    font.setBold(true);
+    style.setFont(font);
+    // 가운데 정렬
+    style.setAlignment(HorizontalAlignment.CENTER);
+    return style;
+  }
+}
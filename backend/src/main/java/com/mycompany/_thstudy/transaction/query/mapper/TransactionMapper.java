@@ -1,5 +1,6 @@
 package com.mycompany._thstudy.transaction.query.mapper;
 
+import com.mycompany._thstudy.transaction.query.dto.request.TransactionCursor;
 import com.mycompany._thstudy.transaction.query.dto.request.TransactionSearchRequest;
 import com.mycompany._thstudy.transaction.query.dto.response.CategoryRawSummary;
 import com.mycompany._thstudy.transaction.query.dto.response.DailySummaryResponse;
@@ -7,31 +8,46 @@ import com.mycompany._thstudy.transaction.query.dto.response.MonthlySummaryRespo
 import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
 public interface TransactionMapper {
 
   List<TransactionListResponse> findByFilter(
-          @Param("userEmail") String userEmail,
+          @Param("userId") Long userId,
           @Param("req") TransactionSearchRequest req
   );
 
-  List<CategoryRawSummary> findMonthlySummary(
-      @Param("userEmail") String userEmail,
-      @Param("year") int year,
-      @Param("month") int month
+  Cursor<TransactionListResponse> streamByFilter(
+          @Param("userId") Long userId,
+          @Param("req") TransactionSearchRequest req
+  );
+
+  List<TransactionListResponse> findPageByFilter(
+          @Param("userId") Long userId,
+          @Param("req") TransactionSearchRequest req,
+          @Param("cursor") TransactionCursor cursor,
+          @Param("limit") int limit
+  );
+
+  /** 롤업 테이블(monthly_category_totals)에서 해당 월 카테고리별 합계 */
+  List<CategoryRawSummary> findMonthlySummaryFromRollup(
+      @Param("userId") Long userId,
+      @Param("monthStart") LocalDate monthStart
   );
 
+  /** [startDate, endDate) 구간의 일자별 합계 */
   List<DailySummaryResponse> findDailySummary(
-      @Param("userEmail") String userEmail,
-      @Param("year") int year,
-      @Param("month") int month
+      @Param("userId") Long userId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate
   );
 
-  List<TransactionListResponse> findRecentByUserEmail(
-      @Param("userEmail") String userEmail
+  List<TransactionListResponse> findRecentByUserId(
+      @Param("userId") Long userId
   );
 
 }
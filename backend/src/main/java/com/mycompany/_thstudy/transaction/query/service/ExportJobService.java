@@ -0,0 +1,190 @@
+package com.mycompany._thstudy.transaction.query.service;
+
+import com.mycompany._thstudy.common.datasource.WorkloadContext;
+import com.mycompany._thstudy.common.job.ActiveJobLimiter;
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.query.export.ExportFormat;
+import com.mycompany._thstudy.transaction.query.export.ExportJob;
+import com.mycompany._thstudy.transaction.query.export.ExportJobStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 비동기 내보내기 작업 관리.
+ * 요청 스레드는 작업만 등록하고 바로 반환하며, 고정 크기 워커 풀이 스풀 디렉터리에 파일을 만든다.
+ * 완료된 파일은 TTL 이 지나면 정리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportJobService {
+
+  // 사용자 한 명이 동시에 대기/실행시킬 수 있는 작업 수
+  private static final int MAX_ACTIVE_JOBS_PER_USER = 2;
+
+  private final TransactionQueryService transactionQueryService;
+
+  @Value("${export.spool-dir}")
+  private String spoolDirectory;
+
+  @Value("${export.workers:2}")
+  private int workers;
+
+  @Value("${export.queue-capacity:20}")
+  private int queueCapacity;
+
+  @Value("${export.ttl:30m}")
+  private Duration ttl;
+
+  private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+  private final ActiveJobLimiter activeJobs = new ActiveJobLimiter(MAX_ACTIVE_JOBS_PER_USER);
+  private Path spoolDir;
+  private ThreadPoolExecutor executor;
+
+  @PostConstruct
+  public void init() throws IOException {
+    spoolDir = Path.of(spoolDirectory);
+    Files.createDirectories(spoolDir);
+    // 재시작 전에 남은 파일은 작업 정보가 사라졌으므로 정리
+    try (Stream<Path> files = Files.list(spoolDir)) {
+      files.forEach(this::deleteQuietly);
+    }
+
+    AtomicInteger seq = new AtomicInteger();
+    executor = new ThreadPoolExecutor(
+        workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        r -> {
+          Thread t = new Thread(r, "export-worker-" + seq.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  public ExportJob submit(Long userId, ExportFormat format, LocalDate startDate, LocalDate endDate) {
+    if (!activeJobs.tryAcquire(userId)) {
+      throw new BusinessException(ErrorCode.EXPORT_QUEUE_FULL);
+    }
+
+    ExportJob job = new ExportJob(UUID.randomUUID().toString(), userId, format, startDate, endDate);
+    jobs.put(job.getId(), job);
+    try {
+      executor.execute(() -> run(job));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      activeJobs.release(userId);
+      throw new BusinessException(ErrorCode.EXPORT_QUEUE_FULL);
+    }
+    return job;
+  }
+
+  /** 다른 사용자의 작업은 존재 여부도 노출하지 않는다 */
+  public ExportJob getJob(Long userId, String jobId) {
+    ExportJob job = jobs.get(jobId);
+    if (job == null || !job.getUserId().equals(userId)) {
+      throw new BusinessException(ErrorCode.EXPORT_JOB_NOT_FOUND);
+    }
+    return job;
+  }
+
+  /**
+   * 완료된 작업을 다운로드용으로 고정한다. 전송이 끝나면 반드시 finishDownload 를 호출한다.
+   * 그 사이에는 만료 정리가 파일을 지우지 않는다.
+   */
+  public ExportJob startDownload(Long userId, String jobId) {
+    ExportJob job = getJob(userId, jobId);
+    if (job.getStatus() != ExportJobStatus.COMPLETED) {
+      throw new BusinessException(ErrorCode.EXPORT_JOB_NOT_READY);
+    }
+    if (!job.pin()) {
+      // 조회와 고정 사이에 만료 정리됨
+      throw new BusinessException(ErrorCode.EXPORT_JOB_NOT_FOUND);
+    }
+    return job;
+  }
+
+  public void finishDownload(ExportJob job) {
+    job.unpin();
+  }
+
+  @Scheduled(fixedDelayString = "${export.cleanup-interval:60000}")
+  public void purgeExpired() {
+    LocalDateTime threshold = LocalDateTime.now().minus(ttl);
+    jobs.values().removeIf(job -> {
+      if (!job.tryPurge(threshold)) {
+        return false;
+      }
+      if (job.getFile() != null) {
+        deleteQuietly(job.getFile());
+      }
+      return true;
+    });
+  }
+
+  private void run(ExportJob job) {
+    job.markRunning();
+    Path part = spoolDir.resolve(job.getId() + ".part");
+    Path target = spoolDir.resolve(job.getId() + "." + job.getFormat().getExtension());
+    // 스트리밍 내보내기와 reporting bulkhead 를 나눠 쓰므로, 자리가 없으면 실패하지 않고 기다린다
+    WorkloadContext.beginQueuedWork();
+    try {
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part))) {
+        if (job.getFormat() == ExportFormat.CSV) {
+          transactionQueryService.streamCsv(job.getUserId(), job.getStartDate(), job.getEndDate(), out);
+        } else {
+          transactionQueryService.streamXlsx(job.getUserId(), job.getStartDate(), job.getEndDate(), out);
+        }
+      }
+      // 완성된 파일만 보이도록 작성 후 이름 변경
+      Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+      job.markCompleted(target, Files.size(target));
+    } catch (Exception e) {
+      log.error("Export job {} failed", job.getId(), e);
+      deleteQuietly(part);
+      job.markFailed();
+    } finally {
+      WorkloadContext.endQueuedWork();
+      activeJobs.release(job.getUserId());
+    }
+  }
+
+  private void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete export file {}", file, e);
+    }
+  }
+}
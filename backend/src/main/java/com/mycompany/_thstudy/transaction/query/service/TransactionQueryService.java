@@ -1,5 +1,7 @@
 package com.mycompany._thstudy.transaction.query.service;
 
+import com.mycompany._thstudy.common.datasource.ReportingWorkload;
+import com.mycompany._thstudy.transaction.query.dto.request.TransactionCursor;
 import com.mycompany._thstudy.transaction.query.dto.request.TransactionSearchRequest;
 import com.mycompany._thstudy.exception.BusinessException;
 import com.mycompany._thstudy.exception.ErrorCode;
@@ -7,27 +9,26 @@ import com.mycompany._thstudy.transaction.query.dto.response.CategoryRawSummary;
 import com.mycompany._thstudy.transaction.query.dto.response.DailySummaryResponse;
 import com.mycompany._thstudy.transaction.query.dto.response.MonthlySummaryResponse;
 import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionPageResponse;
+import com.mycompany._thstudy.transaction.query.export.TransactionCsvWriter;
+import com.mycompany._thstudy.transaction.query.export.TransactionXlsxWriter;
 import com.mycompany._thstudy.transaction.query.mapper.TransactionMapper;
 import lombok.RequiredArgsConstructor;
 
-import org.apache.poi.ss.usermodel.BorderStyle;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.FillPatternType;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.HorizontalAlignment;
-import org.apache.poi.ss.usermodel.IndexedColors;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @Service
@@ -35,22 +36,68 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class TransactionQueryService {
 
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 200;
+
   private final TransactionMapper transactionMapper;
+  private final TransactionCsvWriter transactionCsvWriter;
+  private final TransactionXlsxWriter transactionXlsxWriter;
+
+  public List<TransactionListResponse> getTransactions(Long userId, TransactionSearchRequest req) {
+    applyDefaultRange(req);
+    return transactionMapper.findByFilter(userId, req);
+  }
+
+  public TransactionPageResponse getTransactionPage(Long userId, TransactionSearchRequest req) {
+    applyDefaultRange(req);
+    int size = resolvePageSize(req.getSize());
+    TransactionCursor cursor = req.getCursor() != null && !req.getCursor().isBlank()
+        ? TransactionCursor.decode(req.getCursor())
+        : null;
+
+    // 한 건 더 조회해서 다음 페이지 존재 여부를 판단 (COUNT 쿼리 불필요)
+    List<TransactionListResponse> rows = transactionMapper.findPageByFilter(userId, req, cursor, size + 1);
+    boolean hasNext = rows.size() > size;
+    List<TransactionListResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+    String nextCursor = null;
+    if (hasNext) {
+      TransactionListResponse last = content.get(content.size() - 1);
+      nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+    }
+    return new TransactionPageResponse(content, size, hasNext, nextCursor);
+  }
 
-  public List<TransactionListResponse> getTransactions(String userEmail, TransactionSearchRequest req) {
+  private YearMonth toYearMonth(int year, int month) {
+    try {
+      return YearMonth.of(year, month);
+    } catch (DateTimeException e) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT);
+    }
+  }
+
+  /** 기간 미지정 시 이번 달 1일 ~ 오늘 */
+  private void applyDefaultRange(TransactionSearchRequest req) {
     if (req.getStartDate() == null) {
       req.setStartDate(LocalDate.now().withDayOfMonth(1));
     }
     if (req.getEndDate() == null) {
       req.setEndDate(LocalDate.now());
     }
-    return transactionMapper.findByFilter(userEmail, req);
   }
 
-  public MonthlySummaryResponse getMonthlySummary(String userEmail, int year, int month) {
+  private int resolvePageSize(Integer size) {
+    if (size == null || size <= 0) {
+      return DEFAULT_PAGE_SIZE;
+    }
+    return Math.min(size, MAX_PAGE_SIZE);
+  }
+
+  public MonthlySummaryResponse getMonthlySummary(Long userId, int year, int month) {
 
+    YearMonth yearMonth = toYearMonth(year, month);
     List<CategoryRawSummary> rawList =
-        transactionMapper.findMonthlySummary(userEmail, year, month);
+        transactionMapper.findMonthlySummaryFromRollup(userId, yearMonth.atDay(1));
 
     // INCOME / EXPENSE 분리
     List<CategoryRawSummary> incomeRaw = rawList.stream()
@@ -83,98 +130,88 @@ public class TransactionQueryService {
     );
   }
 
-  public List<DailySummaryResponse> getDailySummary(String userEmail, int year, int month) {
-    return transactionMapper.findDailySummary(userEmail, year, month);
+  public List<DailySummaryResponse> getDailySummary(Long userId, int year, int month) {
+    YearMonth yearMonth = toYearMonth(year, month);
+    return transactionMapper.findDailySummary(
+        userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
   }
 
-  public List<TransactionListResponse> getRecentTransactions(String userEmail) {
-    return transactionMapper.findRecentByUserEmail(userEmail);
+  public List<TransactionListResponse> getRecentTransactions(Long userId) {
+    return transactionMapper.findRecentByUserId(userId);
   }
 
-  public byte[] exportCsv(String userEmail, LocalDate startDate, LocalDate endDate) {
+  @ReportingWorkload
+  public byte[] exportCsv(Long userId, LocalDate startDate, LocalDate endDate) {
     TransactionSearchRequest req = new TransactionSearchRequest();
     req.setStartDate(startDate);
     req.setEndDate(endDate);
-    List<TransactionListResponse> list = getTransactions(userEmail, req);
-    StringBuilder sb = new StringBuilder("\uFEFF"); // BOM (한글 깨짐 방지)
-    sb.append("날짜,유형,카테고리,금액,메모\n");
-	for (TransactionListResponse t : list) {
-	  sb.append("\"").append(t.getTransactionDate()).append("\"").append(",")
-		  .append("INCOME".equals(t.getType()) ? "수입" : "지출").append(",")
-		  .append(t.getCategoryName()).append(",")
-		  .append(t.getAmount()).append(",")
-		  // 메모(Description) 부분을 큰따옴표로 감싸도록 수정
-		  .append("\"").append(t.getDescription() != null ? t.getDescription() : "").append("\"")
-		  .append("\n");
-	}
+    List<TransactionListResponse> list = getTransactions(userId, req);
+    StringBuilder sb = new StringBuilder();
+    try {
+      transactionCsvWriter.writeHeader(sb);
+      for (TransactionListResponse t : list) {
+        transactionCsvWriter.writeRow(sb, t);
+      }
+    } catch (IOException e) {
+      throw new BusinessException(ErrorCode.EXPORT_FAILED);
+    }
     return sb.toString().getBytes(StandardCharsets.UTF_8);
   }
 
-  public byte[] exportXlsx(String userEmail, LocalDate startDate, LocalDate endDate) {
+  /**
+   * CSV 를 응답 스트림에 직접 기록한다.
+   * MyBatis Cursor 로 한 행씩 읽어 바로 쓰므로 기간에 관계없이 힙 사용량이 일정하고,
+   * 헤더는 조회가 끝나기 전에 먼저 flush 된다.
+   * 호출 스레드에서 트랜잭션(커넥션)이 열려 있어야 Cursor 를 순회할 수 있다.
+   */
+  @ReportingWorkload
+  public void streamCsv(Long userId, LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
     TransactionSearchRequest req = new TransactionSearchRequest();
     req.setStartDate(startDate);
     req.setEndDate(endDate);
-    List<TransactionListResponse> list = getTransactions(userEmail, req);
-
-    try (Workbook workbook = new XSSFWorkbook();
-       ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-
-      Sheet sheet = workbook.createSheet("거래내역");
+    applyDefaultRange(req);
 
-      // 1. 스타일 정의
-      CellStyle headerStyle = createHeaderStyle(workbook);
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    transactionCsvWriter.writeHeader(writer);
+    writer.flush();
 
-      // 2. 헤더 생성
-      String[] columns = {"날짜", "유형", "카테고리", "금액", "메모"};
-      Row headerRow = sheet.createRow(0);
-      for (int i = 0; i < columns.length; i++) {
-        Cell cell = headerRow.createCell(i);
-        cell.setCellValue(columns[i]);
-        cell.setCellStyle(headerStyle); // 스타일 적용
-      }
-
-      // 3. 데이터 본문 생성
-      int rowIdx = 1;
-      for (TransactionListResponse t : list) {
-        Row row = sheet.createRow(rowIdx++);
-
-        row.createCell(0).setCellValue(t.getTransactionDate().toString());
-        row.createCell(1).setCellValue("INCOME".equals(t.getType()) ? "수입" : "지출");
-        row.createCell(2).setCellValue(t.getCategoryName());
-
-        // 금액: 숫자로 입력해야 엑셀에서 합계 계산이 가능
-        row.createCell(3).setCellValue(t.getAmount().doubleValue());
-
-        row.createCell(4).setCellValue(t.getDescription() != null ? t.getDescription() : "");
+    try (Cursor<TransactionListResponse> cursor = transactionMapper.streamByFilter(userId, req)) {
+      for (TransactionListResponse t : cursor) {
+        transactionCsvWriter.writeRow(writer, t);
       }
+    }
+    writer.flush();
+  }
 
-      // 4. 열 너비 자동 조정
-      for (int i = 0; i < columns.length; i++) {
-        sheet.autoSizeColumn(i);
-      }
+  @ReportingWorkload
+  public byte[] exportXlsx(Long userId, LocalDate startDate, LocalDate endDate) {
+    TransactionSearchRequest req = new TransactionSearchRequest();
+    req.setStartDate(startDate);
+    req.setEndDate(endDate);
+    List<TransactionListResponse> list = getTransactions(userId, req);
 
-      workbook.write(out);
+    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      transactionXlsxWriter.writeWorkbook(list, out);
       return out.toByteArray();
-
     } catch (IOException e) {
       throw new BusinessException(ErrorCode.EXPORT_FAILED);
     }
   }
 
-  // 헤더를 예쁘게 꾸며주는 보조 메서드
-	private CellStyle createHeaderStyle(Workbook workbook) {
-		CellStyle style = workbook.createCellStyle();
-		// 배경색 설정 (밝은 회색)
-		style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-		style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-		// 테두리 설정
-		style.setBorderBottom(BorderStyle.THIN);
-		// 글꼴 설정 (굵게)
-		Font font = workbook.createFont();
-		font.setBold(true);
-		style.setFont(font);
-		// 가운데 정렬
-		style.setAlignment(HorizontalAlignment.CENTER);
-		return style;
-	}
+  /**
+   * XLSX 를 응답 스트림에 기록한다.
+   * Cursor 로 읽은 행을 SXSSF 윈도우(100행)만 메모리에 두고 임시 파일로 내보내므로
+   * 행 수와 관계없이 힙 사용량이 일정하다.
+   */
+  @ReportingWorkload
+  public void streamXlsx(Long userId, LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+    TransactionSearchRequest req = new TransactionSearchRequest();
+    req.setStartDate(startDate);
+    req.setEndDate(endDate);
+    applyDefaultRange(req);
+
+    try (Cursor<TransactionListResponse> cursor = transactionMapper.streamByFilter(userId, req)) {
+      transactionXlsxWriter.writeStreaming(cursor, out);
+    }
+  }
 }
@@ -2,14 +2,25 @@ package com.mycompany._thstudy.user.command.domain.aggregate;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 거의 모든 요청에서 읽고 드물게 바뀌므로 2차 캐시(READ_WRITE)에 둔다.
+ * email 은 자연 키로 캐시해 로그인/토큰 재발급의 findByEmail 도 DB 를 거치지 않는다.
+ * modifyRole 등 변경은 더티 체킹 커밋 시 캐시 항목이 함께 갱신된다.
+ */
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,10 +28,14 @@ import java.time.LocalDateTime;
 @Builder
 public class User {
 
+    public static final String CACHE_REGION = "user";
+    public static final String NATURAL_ID_CACHE_REGION = "user-email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 100)
     private String email;
 
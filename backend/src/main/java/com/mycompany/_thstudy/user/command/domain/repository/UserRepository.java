@@ -12,5 +12,10 @@ public interface UserRepository {
 
     Optional<User> findByEmail(String email);
 
+    /** 인증 principal 의 userId 로 연관관계만 걸 때 사용 (SELECT 없이 프록시 반환) */
+    User getReferenceById(Long id);
+
     boolean existsByEmail(String email);
+
+    boolean existsById(Long id);
 }
@@ -4,12 +4,7 @@ import com.mycompany._thstudy.user.command.domain.aggregate.User;
 import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
-public interface JpaUserRepository extends JpaRepository<User, Long>, UserRepository {
-
-    @Override
-    Optional<User> findByEmail(String email);
+public interface JpaUserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository, UserRepository {
 
     @Override
     boolean existsByEmail(String email);
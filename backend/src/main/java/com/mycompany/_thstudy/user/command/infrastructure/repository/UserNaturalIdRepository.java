@@ -0,0 +1,11 @@
+package com.mycompany._thstudy.user.command.infrastructure.repository;
+
+import com.mycompany._thstudy.user.command.domain.aggregate.User;
+
+import java.util.Optional;
+
+/** 이메일(자연 키) 조회를 파생 쿼리 대신 자연 키 캐시를 타는 구현으로 바꾸기 위한 조각 */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,25 @@
+package com.mycompany._thstudy.user.command.infrastructure.repository;
+
+import com.mycompany._thstudy.user.command.domain.aggregate.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * 파생 쿼리(WHERE email = ?)는 2차 캐시를 쓰지 못하므로 자연 키 로드로 조회한다.
+ * email → id 는 자연 키 캐시, id → User 는 엔티티 캐시에서 찾고 둘 다 없을 때만 SELECT 한다.
+ */
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -5,6 +5,7 @@ import com.mycompany._thstudy.account.command.application.dto.request.AccountUpd
 import com.mycompany._thstudy.account.command.application.dto.response.AccountCommandResponse;
 import com.mycompany._thstudy.account.command.domain.aggregate.Account;
 import com.mycompany._thstudy.account.command.domain.repository.AccountRepository;
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
 import com.mycompany._thstudy.exception.BusinessException;
 import com.mycompany._thstudy.exception.ErrorCode;
 import com.mycompany._thstudy.user.command.domain.aggregate.User;
@@ -16,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -35,6 +37,12 @@ class AccountCommandServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private AccountLedgerRecorder accountLedgerRecorder;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private AccountCommandService accountCommandService;
 
@@ -52,7 +60,7 @@ class AccountCommandServiceTest {
     ReflectionTestUtils.setField(request, "name", "생활비 계좌");
     ReflectionTestUtils.setField(request, "balance", 10000L);
 
-    when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+    when(userRepository.getReferenceById(1L)).thenReturn(user);
     when(accountRepository.save(any(Account.class))).thenReturn(
         Account.builder()
             .id(10L)
@@ -62,7 +70,7 @@ class AccountCommandServiceTest {
             .build()
     );
 
-    AccountCommandResponse response = accountCommandService.createAccount("user@test.com", request);
+    AccountCommandResponse response = accountCommandService.createAccount(1L, request);
 
     assertEquals(10L, response.getId());
     assertEquals("생활비 계좌", response.getName());
@@ -72,6 +80,8 @@ class AccountCommandServiceTest {
     verify(accountRepository).save(captor.capture());
     assertEquals("생활비 계좌", captor.getValue().getName());
     assertEquals(10000L, captor.getValue().getBalance());
+    verify(accountLedgerRecorder).recordOpening(10L, 10000L);
+    verify(eventPublisher).publishEvent(any(UserDataChangedEvent.class));
   }
 
   @Test
@@ -95,10 +105,10 @@ class AccountCommandServiceTest {
     ReflectionTestUtils.setField(request, "name", "변경 계좌");
     ReflectionTestUtils.setField(request, "balance", 2000L);
 
-    when(accountRepository.findById(100L)).thenReturn(Optional.of(account));
+    when(accountRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(account));
 
     BusinessException ex = assertThrows(BusinessException.class,
-        () -> accountCommandService.updateAccount("other@test.com", 100L, request));
+        () -> accountCommandService.updateAccount(2L, 100L, request));
 
     assertEquals(ErrorCode.ACCESS_DENIED, ex.getErrorCode());
   }
@@ -0,0 +1,75 @@
+package com.mycompany._thstudy.account.command.application.service;
+
+import com.mycompany._thstudy.account.command.application.dto.request.AccountCreateRequest;
+import com.mycompany._thstudy.account.command.application.dto.request.AccountUpdateRequest;
+import com.mycompany._thstudy.account.command.application.dto.response.AccountCommandResponse;
+import com.mycompany._thstudy.support.HibernateStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 계좌 등록/수정/삭제의 Hibernate 문장 수 상한.
+ * 소유자 확인은 user 프록시의 id 만 쓰므로 users SELECT 가 추가되면 실패한다.
+ *   등록 1 (INSERT) / 수정 2 (SELECT ... FOR UPDATE, UPDATE) / 삭제 2 (SELECT, DELETE)
+ * 원장 기록/삭제는 MyBatis 로 실행되어 세지 않는다.
+ */
+@SpringBootTest
+class AccountCommandStatementCountTest {
+
+  @Autowired
+  private AccountCommandService accountCommandService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private HibernateStatementCounter statementCounter;
+  private Long userId;
+
+  @BeforeEach
+  void seed() {
+    statementCounter = new HibernateStatementCounter(entityManagerFactory);
+
+    String email = "acct_stmt_" + System.nanoTime() + "@test.com";
+    jdbcTemplate.update(
+        "INSERT INTO users(email, password, nickname, role, created_at, updated_at) VALUES (?, 'x', 'acct', 'USER', NOW(6), NOW(6))",
+        email);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update(
+        "DELETE FROM account_ledger_entries WHERE account_id IN (SELECT id FROM accounts WHERE user_id = ?)", userId);
+    jdbcTemplate.update("DELETE FROM accounts WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+  }
+
+  @Test
+  void createUpdateDelete_doNotLoadOwner() {
+    AccountCreateRequest create = new AccountCreateRequest();
+    ReflectionTestUtils.setField(create, "name", "생활비 계좌");
+    ReflectionTestUtils.setField(create, "balance", 10_000L);
+
+    AccountCommandResponse created = statementCounter.assertMaxStatements(1,
+        () -> accountCommandService.createAccount(userId, create));
+
+    AccountUpdateRequest update = new AccountUpdateRequest();
+    ReflectionTestUtils.setField(update, "name", "비상금 계좌");
+    ReflectionTestUtils.setField(update, "balance", 15_000L);
+
+    statementCounter.assertMaxStatements(2,
+        () -> accountCommandService.updateAccount(userId, created.getId(), update));
+
+    statementCounter.assertMaxStatements(2,
+        () -> accountCommandService.deleteAccount(userId, created.getId()));
+  }
+}
@@ -0,0 +1,39 @@
+package com.mycompany._thstudy.account.command.application.service;
+
+import com.mycompany._thstudy.account.command.application.mapper.AccountLedgerMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLedgerRecorderTest {
+
+  @Mock
+  private AccountLedgerMapper accountLedgerMapper;
+
+  @InjectMocks
+  private AccountLedgerRecorder accountLedgerRecorder;
+
+  @Test
+  void recordTransaction_postsAtJvmLocalTime() {
+    LocalDateTime before = LocalDateTime.now();
+    accountLedgerRecorder.recordTransaction(10L, 7L, -3_000L);
+    LocalDateTime after = LocalDateTime.now();
+
+    // 스냅샷/시점 조회의 날짜 경계(atStartOfDay)와 같은 JVM 시간대로 기록되어야 한다
+    ArgumentCaptor<LocalDateTime> postedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(accountLedgerMapper).insertFromAccountBalance(
+        eq(10L), eq(7L), eq("TRANSACTION"), eq(-3_000L), postedAt.capture());
+    assertFalse(postedAt.getValue().isBefore(before));
+    assertFalse(postedAt.getValue().isAfter(after));
+  }
+}
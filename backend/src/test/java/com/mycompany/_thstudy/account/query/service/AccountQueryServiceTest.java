@@ -0,0 +1,77 @@
+package com.mycompany._thstudy.account.query.service;
+
+import com.mycompany._thstudy.account.query.dto.response.AccountBalanceResponse;
+import com.mycompany._thstudy.account.query.dto.response.AccountResponse;
+import com.mycompany._thstudy.account.query.dto.response.BalanceSnapshotRef;
+import com.mycompany._thstudy.account.query.mapper.AccountMapper;
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountQueryServiceTest {
+
+  private static final LocalDate AS_OF = LocalDate.of(2024, 3, 15);
+
+  @Mock
+  private AccountMapper accountMapper;
+
+  @InjectMocks
+  private AccountQueryService accountQueryService;
+
+  @Test
+  void getBalanceAsOf_usesLedgerAfterNearestSnapshot() {
+    when(accountMapper.findByIdAndUserId(10L, 1L)).thenReturn(new AccountResponse(10L, "통장", 9_000L));
+    when(accountMapper.findLatestSnapshot(10L, AS_OF)).thenReturn(snapshot(LocalDate.of(2024, 3, 10), 5_000L, 77L));
+    when(accountMapper.findLatestLedgerBalance(
+        10L, 77L, LocalDate.of(2024, 3, 11).atStartOfDay(), LocalDate.of(2024, 3, 16).atStartOfDay()))
+        .thenReturn(6_500L);
+
+    AccountBalanceResponse response = accountQueryService.getBalanceAsOf(1L, 10L, AS_OF);
+
+    assertEquals(6_500L, response.getBalance());
+    assertEquals(AS_OF, response.getAsOf());
+  }
+
+  @Test
+  void getBalanceAsOf_noLedgerAfterSnapshot_returnsSnapshotBalance() {
+    when(accountMapper.findByIdAndUserId(10L, 1L)).thenReturn(new AccountResponse(10L, "통장", 9_000L));
+    when(accountMapper.findLatestSnapshot(10L, AS_OF)).thenReturn(snapshot(LocalDate.of(2024, 3, 10), 5_000L, 77L));
+    when(accountMapper.findLatestLedgerBalance(any(), any(), any(), any())).thenReturn(null);
+
+    assertEquals(5_000L, accountQueryService.getBalanceAsOf(1L, 10L, AS_OF).getBalance());
+  }
+
+  @Test
+  void getBalanceAsOf_otherUsersAccount_throwsNotFound() {
+    when(accountMapper.findByIdAndUserId(10L, 2L)).thenReturn(null);
+
+    BusinessException ex = assertThrows(BusinessException.class,
+        () -> accountQueryService.getBalanceAsOf(2L, 10L, AS_OF));
+
+    assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, ex.getErrorCode());
+    verify(accountMapper, never()).findLatestSnapshot(any(), any());
+  }
+
+  private static BalanceSnapshotRef snapshot(LocalDate date, long balance, long lastEntryId) {
+    BalanceSnapshotRef ref = new BalanceSnapshotRef();
+    ReflectionTestUtils.setField(ref, "snapshotDate", date);
+    ReflectionTestUtils.setField(ref, "balance", balance);
+    ReflectionTestUtils.setField(ref, "lastEntryId", lastEntryId);
+    return ref;
+  }
+}
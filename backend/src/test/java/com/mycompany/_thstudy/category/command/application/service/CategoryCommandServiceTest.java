@@ -0,0 +1,100 @@
+package com.mycompany._thstudy.category.command.application.service;
+
+import com.mycompany._thstudy.category.command.application.dto.request.CategoryCreateRequest;
+import com.mycompany._thstudy.category.command.application.dto.response.CategoryCommandResponse;
+import com.mycompany._thstudy.category.command.domain.aggregate.Category;
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.category.command.domain.repository.CategoryRepository;
+import com.mycompany._thstudy.category.query.dto.response.CategoryResponse;
+import com.mycompany._thstudy.category.query.service.CategoryQueryService;
+import com.mycompany._thstudy.common.event.CategoryChangedEvent;
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCommandServiceTest {
+
+  @Mock
+  private CategoryRepository categoryRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private CategoryQueryService categoryQueryService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private CategoryCommandService categoryCommandService;
+
+  @Test
+  void createCategory_duplicateNameIgnoringCase_throwsConflict() {
+    when(categoryQueryService.getCategories(1L)).thenReturn(List.of(
+        new CategoryResponse(10L, "Food", "EXPENSE")));
+
+    BusinessException ex = assertThrows(BusinessException.class,
+        () -> categoryCommandService.createCategory(1L, request("food", CategoryType.EXPENSE)));
+
+    assertEquals(ErrorCode.CATEGORY_DUPLICATE_NAME, ex.getErrorCode());
+    verify(categoryRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  void createCategory_sameNameOtherType_savesAndPublishesCategoryEvent() {
+    when(categoryQueryService.getCategories(1L)).thenReturn(List.of(
+        new CategoryResponse(10L, "Food", "EXPENSE")));
+    when(categoryRepository.saveAndFlush(any(Category.class))).thenAnswer(invocation -> {
+      Category saved = invocation.getArgument(0);
+      ReflectionTestUtils.setField(saved, "id", 11L);
+      return saved;
+    });
+
+    CategoryCommandResponse response =
+        categoryCommandService.createCategory(1L, request("Food", CategoryType.INCOME));
+
+    assertEquals(11L, response.getId());
+    verify(eventPublisher).publishEvent(isA(CategoryChangedEvent.class));
+  }
+
+  @Test
+  void createCategory_concurrentDuplicatePassingCacheCheck_throwsConflict() {
+    // 캐시에는 아직 없지만 동시 요청이 먼저 커밋해 유니크 제약에 걸린 경우
+    when(categoryQueryService.getCategories(1L)).thenReturn(List.of());
+    when(categoryRepository.saveAndFlush(any(Category.class)))
+        .thenThrow(new DataIntegrityViolationException("uq_categories_user_name_type"));
+
+    BusinessException ex = assertThrows(BusinessException.class,
+        () -> categoryCommandService.createCategory(1L, request("Food", CategoryType.EXPENSE)));
+
+    assertEquals(ErrorCode.CATEGORY_DUPLICATE_NAME, ex.getErrorCode());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  private static CategoryCreateRequest request(String name, CategoryType type) {
+    CategoryCreateRequest request = new CategoryCreateRequest();
+    ReflectionTestUtils.setField(request, "name", name);
+    ReflectionTestUtils.setField(request, "type", type);
+    return request;
+  }
+}
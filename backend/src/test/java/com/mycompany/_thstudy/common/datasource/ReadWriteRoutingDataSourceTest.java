@@ -0,0 +1,109 @@
+package com.mycompany._thstudy.common.datasource;
+
+import com.mycompany._thstudy.auth.command.application.dto.request.LoginRequest;
+import com.mycompany._thstudy.auth.command.application.service.AuthCommandService;
+import com.mycompany._thstudy.common.datasource.ReadWriteRoutingDataSource.Route;
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import com.mycompany._thstudy.security.LoginUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+  private final ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(Duration.ofMinutes(1));
+  private ReadWriteRoutingDataSource routing;
+
+  @BeforeEach
+  void setUp() {
+    routing = new ReadWriteRoutingDataSource(
+        mock(DataSource.class), mock(DataSource.class), lagMonitor, readYourWrites, registry);
+    LoginUser user = new LoginUser(7L, "user@test.com", null, "USER");
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void writeTransaction_goesToPrimary() {
+    when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+    assertEquals(Route.PRIMARY, routing.determineCurrentLookupKey());
+    assertRouted("primary", "write");
+  }
+
+  @Test
+  void readOnlyTransaction_goesToReplica() {
+    when(lagMonitor.isReplicaUsable()).thenReturn(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(Route.REPLICA, routing.determineCurrentLookupKey());
+    assertRouted("replica", "read");
+  }
+
+  @Test
+  void readOnlyTransaction_replicaLagging_fallsBackToPrimary() {
+    when(lagMonitor.isReplicaUsable()).thenReturn(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(Route.PRIMARY, routing.determineCurrentLookupKey());
+    assertRouted("primary", "replica-unavailable");
+  }
+
+  @Test
+  void readOnlyTransaction_afterOwnWrite_readsFromPrimaryOnlyForThatUser() {
+    when(lagMonitor.isReplicaUsable()).thenReturn(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    readYourWrites.onUserDataChanged(new UserDataChangedEvent(7L));
+
+    assertEquals(Route.PRIMARY, routing.determineCurrentLookupKey());
+    assertRouted("primary", "read-your-writes");
+
+    LoginUser other = new LoginUser(8L, "other@test.com", null, "USER");
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(other, null, other.getAuthorities()));
+    assertEquals(Route.REPLICA, routing.determineCurrentLookupKey());
+  }
+
+  @Test
+  void unauthenticatedTokenEndpoints_runReadWrite_andGoToPrimary() throws NoSuchMethodException {
+    when(lagMonitor.isReplicaUsable()).thenReturn(true);
+    SecurityContextHolder.clearContext();
+
+    // 로그인/토큰 재발급은 인증 전이라 read-your-writes 가 적용되지 않으므로 읽기 전용 트랜잭션이면 안 된다
+    assertEquals(Route.PRIMARY, routeOf(AuthCommandService.class.getMethod("login", LoginRequest.class)));
+    assertEquals(Route.PRIMARY, routeOf(AuthCommandService.class.getMethod("refreshToken", String.class)));
+  }
+
+  private Object routeOf(Method method) {
+    TransactionAttribute attribute = new AnnotationTransactionAttributeSource()
+        .getTransactionAttribute(method, method.getDeclaringClass());
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(attribute.isReadOnly());
+    return routing.determineCurrentLookupKey();
+  }
+
+  private void assertRouted(String route, String reason) {
+    assertEquals(1.0, registry.get("datasource.routing").tag("route", route).tag("reason", reason).counter().count());
+  }
+}
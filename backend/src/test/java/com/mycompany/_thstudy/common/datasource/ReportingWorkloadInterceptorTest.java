@@ -0,0 +1,89 @@
+package com.mycompany._thstudy.common.datasource;
+
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportingWorkloadInterceptorTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ReportingWorkloadInterceptor interceptor =
+      new ReportingWorkloadInterceptor(1, Duration.ZERO, registry);
+
+  @Test
+  void invoke_runsAsReportingAndRestoresOltp() throws Throwable {
+    MethodInvocation invocation = mock(MethodInvocation.class);
+    when(invocation.proceed()).thenAnswer(call -> WorkloadContext.current());
+
+    assertEquals(Workload.REPORTING, interceptor.invoke(invocation));
+    assertEquals(Workload.OLTP, WorkloadContext.current());
+    assertEquals(1.0, registry.get("datasource.workload.bulkhead.available").gauge().value());
+  }
+
+  @Test
+  void invoke_bulkheadFull_rejectsOtherThreadButAllowsNestedCall() throws Throwable {
+    MethodInvocation other = mock(MethodInvocation.class);
+    MethodInvocation nested = mock(MethodInvocation.class);
+    when(nested.proceed()).thenReturn("nested");
+    MethodInvocation holding = mock(MethodInvocation.class);
+    when(holding.proceed()).thenAnswer(call -> {
+      CompletionException ex = assertThrows(CompletionException.class, () -> CompletableFuture.supplyAsync(() -> {
+        try {
+          return interceptor.invoke(other);
+        } catch (Throwable e) {
+          throw new CompletionException(e);
+        }
+      }).join());
+      BusinessException busy = assertInstanceOf(BusinessException.class, ex.getCause());
+      assertEquals(ErrorCode.REPORTING_BUSY, busy.getErrorCode());
+      return interceptor.invoke(nested);
+    });
+
+    assertEquals("nested", interceptor.invoke(holding));
+    assertEquals(1.0, registry.get("datasource.workload.bulkhead.rejected").counter().count());
+  }
+
+  @Test
+  void invoke_bulkheadFull_queuedWorkWaitsInsteadOfFailing() throws Throwable {
+    MethodInvocation queued = mock(MethodInvocation.class);
+    when(queued.proceed()).thenReturn("exported");
+    CompletableFuture<Object> worker = new CompletableFuture<>();
+
+    MethodInvocation holding = mock(MethodInvocation.class);
+    when(holding.proceed()).thenAnswer(call -> {
+      Thread thread = new Thread(() -> {
+        WorkloadContext.beginQueuedWork();
+        try {
+          worker.complete(interceptor.invoke(queued));
+        } catch (Throwable e) {
+          worker.completeExceptionally(e);
+        } finally {
+          WorkloadContext.endQueuedWork();
+        }
+      });
+      thread.start();
+      // acquire-timeout(0) 이 지나도 429 로 끝나지 않고 자리를 기다린다
+      Thread.sleep(200);
+      assertFalse(worker.isDone());
+      return "streamed";
+    });
+
+    assertEquals("streamed", interceptor.invoke(holding));
+    assertEquals("exported", worker.get(5, TimeUnit.SECONDS));
+    assertEquals(0.0, registry.get("datasource.workload.bulkhead.rejected").counter().count());
+  }
+}
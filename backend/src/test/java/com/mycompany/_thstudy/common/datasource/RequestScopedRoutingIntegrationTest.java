@@ -0,0 +1,152 @@
+package com.mycompany._thstudy.common.datasource;
+
+import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 한 요청 안의 여러 트랜잭션이 각자 커넥션을 골라야 라우팅이 의미가 있다.
+ * open-in-view 가 켜져 있으면 요청 시작 시 묶인 EntityManager 가 첫 트랜잭션의 커넥션을 요청 끝까지 잡고 있어
+ * 이후 트랜잭션은 ReadWriteRoutingDataSource 를 다시 거치지 않는다.
+ * 복제본 주소는 주 DB 와 같게 두고, 라우팅 판단 횟수(datasource.routing 카운터)로 확인한다.
+ * 같은 이유로 OLTP 트랜잭션 뒤의 @ReportingWorkload 호출도 reporting 풀 커넥션을 새로 받아야 한다.
+ */
+@SpringBootTest(properties = {
+    "datasource-routing.enabled=true",
+    "datasource-routing.replica.url=${spring.datasource.url}"
+})
+@AutoConfigureMockMvc
+@Import(RequestScopedRoutingIntegrationTest.ProbeConfig.class)
+class RequestScopedRoutingIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void readOnlyThenWriteInOneRequest_eachTransactionIsRouted() throws Exception {
+    double before = routingDecisions();
+    double writesBefore = writeRoutes();
+
+    mockMvc.perform(get("/test/routing-probe").with(user("probe")))
+        .andExpect(status().isOk());
+
+    // 읽기 전용 1번 + 쓰기 1번 모두 라우팅을 거치고, 쓰기는 주 DB 로 간다
+    assertEquals(2.0, routingDecisions() - before);
+    assertEquals(1.0, writeRoutes() - writesBefore);
+  }
+
+  @Test
+  void oltpThenReportingInOneRequest_reportingCallUsesReportingPool() throws Exception {
+    // 먼저 OLTP 트랜잭션을 실행한 뒤, 같은 요청의 @ReportingWorkload 호출이 reporting 풀 커넥션을 잡는지
+    mockMvc.perform(get("/test/reporting-probe").with(user("probe")))
+        .andExpect(status().isOk())
+        .andExpect(content().string("1"));
+  }
+
+  private double routingDecisions() {
+    return meterRegistry.find("datasource.routing").counters().stream().mapToDouble(Counter::count).sum();
+  }
+
+  private double writeRoutes() {
+    return meterRegistry.get("datasource.routing").tag("route", "primary").tag("reason", "write").counter().count();
+  }
+
+  @TestConfiguration
+  static class ProbeConfig {
+
+    @Bean
+    RoutingProbeController routingProbeController(
+        UserRepository userRepository, PlatformTransactionManager transactionManager,
+        ReportingProbe reportingProbe) {
+      return new RoutingProbeController(userRepository, transactionManager, reportingProbe);
+    }
+
+    @Bean
+    ReportingProbe reportingProbe(
+        JdbcTemplate jdbcTemplate, @Qualifier("reportingDataSource") HikariDataSource reportingDataSource) {
+      return new ReportingProbe(jdbcTemplate, reportingDataSource);
+    }
+  }
+
+  static class ReportingProbe {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HikariDataSource reportingDataSource;
+
+    ReportingProbe(JdbcTemplate jdbcTemplate, HikariDataSource reportingDataSource) {
+      this.jdbcTemplate = jdbcTemplate;
+      this.reportingDataSource = reportingDataSource;
+    }
+
+    /** 문장을 실행해 실제 커넥션을 받은 뒤 reporting 풀에서 빌려 간 커넥션 수 */
+    @ReportingWorkload
+    @Transactional(readOnly = true)
+    public Integer activeReportingConnections() {
+      return jdbcTemplate.execute((ConnectionCallback<Integer>) con -> {
+        try (Statement statement = con.createStatement()) {
+          statement.execute("SELECT 1");
+        }
+        return reportingDataSource.getHikariPoolMXBean().getActiveConnections();
+      });
+    }
+  }
+
+  @RestController
+  static class RoutingProbeController {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+    private final ReportingProbe reportingProbe;
+
+    RoutingProbeController(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                           ReportingProbe reportingProbe) {
+      this.userRepository = userRepository;
+      this.reportingProbe = reportingProbe;
+      this.readOnly = new TransactionTemplate(transactionManager);
+      this.readOnly.setReadOnly(true);
+      this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @GetMapping("/test/routing-probe")
+    String probe() {
+      readOnly.executeWithoutResult(status -> userRepository.existsByEmail("probe@test.com"));
+      readWrite.executeWithoutResult(status -> userRepository.existsByEmail("probe@test.com"));
+      return "ok";
+    }
+
+    @GetMapping("/test/reporting-probe")
+    String reportingProbe() {
+      readWrite.executeWithoutResult(status -> userRepository.existsByEmail("probe@test.com"));
+      return String.valueOf(reportingProbe.activeReportingConnections());
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.mycompany._thstudy.common.mybatis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class StatementMetricsInterceptorTest {
+
+  private static final String STATEMENT_ID = "com.mycompany._thstudy.transaction.query.mapper.TransactionMapper.findByFilter";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final SlowQueryLog slowQueryLog = new SlowQueryLog(10);
+
+  @Test
+  void query_recordsTimerAndRowCountPerStatement() throws Throwable {
+    StatementMetricsInterceptor interceptor =
+        new StatementMetricsInterceptor(registry, slowQueryLog, Duration.ofHours(1));
+
+    interceptor.intercept(invocation(List.of(1, 2, 3)));
+
+    Timer timer = registry.get("mybatis.statement")
+        .tag("statement", "TransactionMapper.findByFilter")
+        .tag("outcome", "success")
+        .timer();
+    assertEquals(1, timer.count());
+    DistributionSummary rows = registry.get("mybatis.statement.rows")
+        .tag("statement", "TransactionMapper.findByFilter")
+        .summary();
+    assertEquals(3.0, rows.totalAmount());
+    assertTrue(slowQueryLog.recent().isEmpty());
+  }
+
+  @Test
+  void slowQuery_isCapturedWithBoundParameters() throws Throwable {
+    StatementMetricsInterceptor interceptor =
+        new StatementMetricsInterceptor(registry, slowQueryLog, Duration.ZERO);
+
+    interceptor.intercept(invocation(List.of()));
+
+    SlowQuery captured = slowQueryLog.recent().get(0);
+    assertEquals("TransactionMapper.findByFilter", captured.getStatement());
+    assertEquals("SELECT * FROM transactions WHERE user_id = ? AND type = ?", captured.getSql());
+    assertEquals(List.of(7L, "EXPENSE"), captured.getParameters());
+    assertEquals(0, captured.getRows());
+  }
+
+  private static Invocation invocation(List<?> result) throws Exception {
+    Configuration configuration = new Configuration();
+    StaticSqlSource sqlSource = new StaticSqlSource(configuration,
+        "SELECT *\n    FROM transactions\n   WHERE user_id = ? AND type = ?",
+        List.of(
+            new ParameterMapping.Builder(configuration, "userId", Long.class).build(),
+            new ParameterMapping.Builder(configuration, "type", Type.class).build()));
+    MappedStatement ms = new MappedStatement.Builder(configuration, STATEMENT_ID, sqlSource, SqlCommandType.SELECT)
+        .build();
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("userId", 7L);
+    params.put("type", Type.EXPENSE);
+
+    Executor executor = mock(Executor.class);
+    doReturn(result).when(executor).query(ms, params, RowBounds.DEFAULT, null);
+    Method query = Executor.class.getMethod(
+        "query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+    return new Invocation(executor, query, new Object[]{ms, params, RowBounds.DEFAULT, null});
+  }
+
+  enum Type { EXPENSE }
+}
@@ -0,0 +1,92 @@
+package com.mycompany._thstudy.common.web;
+
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import com.mycompany._thstudy.security.LoginUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionalGetInterceptorTest {
+
+  private UserDataVersion userDataVersion;
+  private ConditionalGetInterceptor interceptor;
+  private HandlerMethod handler;
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    userDataVersion = new UserDataVersion();
+    interceptor = new ConditionalGetInterceptor(userDataVersion);
+    handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+    LoginUser loginUser = new LoginUser(1L, "user@test.com", null, "USER");
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(loginUser, null, loginUser.getAuthorities()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void matchingEtag_returnsNotModified() {
+    String etag = etagFor(get(null));
+
+    MockHttpServletResponse second = new MockHttpServletResponse();
+    assertFalse(interceptor.preHandle(get(etag), second, handler));
+    assertEquals(304, second.getStatus());
+    assertEquals(etag, second.getHeader("ETag"));
+  }
+
+  @Test
+  void handledRequest_leavesHeadersToResponseAdvice() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockHttpServletRequest request = get(null);
+
+    assertTrue(interceptor.preHandle(request, response, handler));
+    assertNotNull(request.getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE));
+    assertNull(response.getHeader("ETag"));
+    assertNull(response.getHeader("Cache-Control"));
+  }
+
+  @Test
+  void committedWrite_changesEtag() {
+    String etag = etagFor(get(null));
+
+    userDataVersion.onUserDataChanged(new UserDataChangedEvent(1L));
+
+    MockHttpServletRequest second = get(etag);
+    assertTrue(interceptor.preHandle(second, new MockHttpServletResponse(), handler));
+    assertNotEquals(etag, second.getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE));
+  }
+
+  private String etagFor(MockHttpServletRequest request) {
+    interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+    return (String) request.getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE);
+  }
+
+  private MockHttpServletRequest get(String ifNoneMatch) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+    if (ifNoneMatch != null) {
+      request.addHeader("If-None-Match", ifNoneMatch);
+    }
+    return request;
+  }
+
+  static class SampleController {
+    @ConditionalGet
+    public void list() {
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.mycompany._thstudy.common.web;
+
+import com.mycompany._thstudy.common.dto.ApiResponse;
+import com.mycompany._thstudy.dashboard.query.dto.response.DashboardResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionalGetResponseAdviceTest {
+
+  private static final String ETAG = "\"abc\"";
+
+  private final ConditionalGetResponseAdvice advice = new ConditionalGetResponseAdvice();
+  private MethodParameter returnType;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    returnType = new MethodParameter(SampleController.class.getMethod("dashboard"), -1);
+    request = new MockHttpServletRequest("GET", "/api/dashboard");
+    request.setAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE, ETAG);
+    response = new MockHttpServletResponse();
+  }
+
+  @Test
+  void completeBody_getsEtag() {
+    assertTrue(advice.supports(returnType, MappingJackson2HttpMessageConverter.class));
+
+    write(ApiResponse.success(dashboard(List.of())));
+
+    assertEquals(ETAG, response.getHeader("ETag"));
+    assertEquals("private, no-cache", response.getHeader("Cache-Control"));
+  }
+
+  @Test
+  void partialDashboard_getsNoEtag() {
+    write(ApiResponse.success(dashboard(List.of("monthly"))));
+
+    assertNull(response.getHeader("ETag"));
+  }
+
+  @Test
+  void errorStatus_getsNoEtag() {
+    response.setStatus(500);
+
+    write(ApiResponse.failure("error", "SERVER_ERROR_001"));
+
+    assertNull(response.getHeader("ETag"));
+  }
+
+  private void write(Object body) {
+    ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+    advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON, MappingJackson2HttpMessageConverter.class,
+        new ServletServerHttpRequest(request), serverResponse);
+    serverResponse.flush();
+  }
+
+  private static DashboardResponse dashboard(List<String> failedSections) {
+    return new DashboardResponse(1000L, 0L, 0L, List.of(), failedSections);
+  }
+
+  static class SampleController {
+    @ConditionalGet
+    public ApiResponse<DashboardResponse> dashboard() {
+      return null;
+    }
+  }
+}
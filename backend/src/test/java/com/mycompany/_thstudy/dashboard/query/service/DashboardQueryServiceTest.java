@@ -0,0 +1,117 @@
+package com.mycompany._thstudy.dashboard.query.service;
+
+import com.mycompany._thstudy.account.query.dto.response.AccountSummaryResponse;
+import com.mycompany._thstudy.account.query.service.AccountQueryService;
+import com.mycompany._thstudy.dashboard.query.dto.response.DashboardResponse;
+import com.mycompany._thstudy.transaction.query.dto.response.MonthlySummaryResponse;
+import com.mycompany._thstudy.transaction.query.service.TransactionQueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardQueryServiceTest {
+
+  @Mock
+  private AccountQueryService accountQueryService;
+
+  @Mock
+  private TransactionQueryService transactionQueryService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ExecutorService executor;
+  private SimpleMeterRegistry meterRegistry;
+  private DashboardQueryService dashboardQueryService;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    meterRegistry = new SimpleMeterRegistry();
+    dashboardQueryService = new DashboardQueryService(
+        accountQueryService, transactionQueryService, meterRegistry, executor, transactionManager);
+    ReflectionTestUtils.setField(dashboardQueryService, "sectionTimeout", Duration.ofMillis(200));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void getDashboard_allSectionsSucceed() {
+    when(accountQueryService.getAccountSummary(1L)).thenReturn(new AccountSummaryResponse(5000L, 1, List.of()));
+    when(transactionQueryService.getMonthlySummary(eq(1L), anyInt(), anyInt()))
+        .thenReturn(new MonthlySummaryResponse(2024, 3, 300L, 100L, 200L, List.of(), List.of()));
+    when(transactionQueryService.getRecentTransactions(1L)).thenReturn(List.of());
+
+    DashboardResponse response = dashboardQueryService.getDashboard(1L);
+
+    assertEquals(5000L, response.getTotalBalance());
+    assertEquals(300L, response.getMonthlyIncome());
+    assertEquals(100L, response.getMonthlyExpense());
+    assertTrue(response.getFailedSections().isEmpty());
+    assertEquals(1, meterRegistry.get("dashboard.section").tag("section", "accounts").timer().count());
+  }
+
+  @Test
+  void getDashboard_slowAndFailingSections_returnPartialResponse() {
+    when(accountQueryService.getAccountSummary(1L)).thenAnswer(inv -> {
+      Thread.sleep(1_000);
+      return new AccountSummaryResponse(5000L, 1, List.of());
+    });
+    when(transactionQueryService.getMonthlySummary(eq(1L), anyInt(), anyInt()))
+        .thenThrow(new IllegalStateException("db down"));
+    when(transactionQueryService.getRecentTransactions(1L)).thenReturn(List.of());
+
+    DashboardResponse response = dashboardQueryService.getDashboard(1L);
+
+    assertNull(response.getTotalBalance());
+    assertNull(response.getMonthlyIncome());
+    assertEquals(List.of(), response.getRecentTransactions());
+    assertEquals(List.of("accounts", "monthly"), response.getFailedSections());
+    assertEquals(1.0, meterRegistry.get("dashboard.section.failures")
+        .tag("section", "accounts").tag("reason", "timeout").counter().count());
+  }
+
+  @Test
+  void getDashboard_eachSectionRunsInReadOnlyTransactionWithSectionTimeout() {
+    when(accountQueryService.getAccountSummary(1L)).thenReturn(new AccountSummaryResponse(5000L, 1, List.of()));
+    when(transactionQueryService.getMonthlySummary(eq(1L), anyInt(), anyInt()))
+        .thenReturn(new MonthlySummaryResponse(2024, 3, 300L, 100L, 200L, List.of(), List.of()));
+    when(transactionQueryService.getRecentTransactions(1L)).thenReturn(List.of());
+
+    dashboardQueryService.getDashboard(1L);
+
+    ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+    verify(transactionManager, times(3)).getTransaction(definitions.capture());
+    for (TransactionDefinition definition : definitions.getAllValues()) {
+      assertTrue(definition.isReadOnly());
+      // 200ms → JDBC query timeout 은 초 단위라 1초
+      assertEquals(1, definition.getTimeout());
+    }
+  }
+}
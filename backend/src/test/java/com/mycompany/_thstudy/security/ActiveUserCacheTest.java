@@ -0,0 +1,58 @@
+package com.mycompany._thstudy.security;
+
+import com.mycompany._thstudy.user.command.domain.aggregate.User;
+import com.mycompany._thstudy.user.command.domain.aggregate.UserRole;
+import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActiveUserCacheTest {
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private ActiveUserCache activeUserCache;
+
+  @BeforeEach
+  void setUp() {
+    activeUserCache = new ActiveUserCache(userRepository);
+    ReflectionTestUtils.setField(activeUserCache, "ttl", Duration.ofSeconds(30));
+    activeUserCache.init();
+  }
+
+  @Test
+  void verify_deletedUser_returnsNull() {
+    when(userRepository.findById(7L)).thenReturn(Optional.empty());
+
+    assertNull(activeUserCache.verify(new LoginUser(7L, "user@test.com", null, "USER")));
+  }
+
+  @Test
+  void verify_demotedUser_usesCurrentRoleInsteadOfClaim() {
+    User user = mock(User.class);
+    when(user.getRole()).thenReturn(UserRole.USER);
+    when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+    LoginUser verified = activeUserCache.verify(new LoginUser(7L, "user@test.com", null, "ADMIN"));
+
+    assertEquals("ROLE_USER", verified.getAuthorities().iterator().next().getAuthority());
+  }
+
+  @Test
+  void verify_unchangedUser_keepsClaimPrincipal() {
+    User user = mock(User.class);
+    when(user.getRole()).thenReturn(UserRole.ADMIN);
+    when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+    LoginUser claimed = new LoginUser(7L, "user@test.com", null, "ADMIN");
+
+    assertSame(claimed, activeUserCache.verify(claimed));
+  }
+}
@@ -0,0 +1,53 @@
+package com.mycompany._thstudy.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenProviderTest {
+
+  private JwtTokenProvider jwtTokenProvider;
+
+  @BeforeEach
+  void setUp() {
+    jwtTokenProvider = new JwtTokenProvider();
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=");
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 60_000L);
+    ReflectionTestUtils.setField(jwtTokenProvider, "jwtRefreshExpiration", 120_000L);
+    ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheSize", 100L);
+    jwtTokenProvider.init();
+  }
+
+  @Test
+  void getLoginUserFromJWTToken_buildsPrincipalFromClaims() {
+    String token = jwtTokenProvider.createToken(7L, "user@test.com", "ADMIN");
+
+    LoginUser loginUser = jwtTokenProvider.getLoginUserFromJWTToken(token);
+
+    assertEquals(7L, loginUser.getUserId());
+    assertEquals("user@test.com", loginUser.getUsername());
+    assertTrue(loginUser.getAuthorities().stream()
+        .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+  }
+
+  @Test
+  void parseClaims_returnsCachedClaimsForSameToken() {
+    String token = jwtTokenProvider.createToken(7L, "user@test.com", "USER");
+
+    assertSame(jwtTokenProvider.parseClaims(token), jwtTokenProvider.parseClaims(token));
+  }
+
+  @Test
+  void parseClaims_tamperedSignature_throwsBadCredentials() {
+    String token = jwtTokenProvider.createToken(7L, "user@test.com", "USER");
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+    assertThrows(BadCredentialsException.class, () -> jwtTokenProvider.parseClaims(tampered));
+  }
+}
@@ -0,0 +1,44 @@
+package com.mycompany._thstudy.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 서비스 호출 한 번이 Hibernate 로 실행한 SQL 문장 수의 상한을 검증한다 (N+1 / 지연 로딩 회귀 방지).
+ * 실패 메시지에 엔티티 로드/지연 fetch 횟수와 실행된 JPQL 을 함께 보여 원인을 바로 찾을 수 있게 한다.
+ * MyBatis/JdbcTemplate 문장은 Hibernate 통계에 잡히지 않는다.
+ * 통계는 SessionFactory 전역이므로 호출하는 테스트에 @Transactional 을 두지 않는다 (커밋 시 flush 까지 포함).
+ */
+public class HibernateStatementCounter {
+
+  private final Statistics statistics;
+
+  public HibernateStatementCounter(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.statistics.setStatisticsEnabled(true);
+  }
+
+  public <T> T assertMaxStatements(long max, Supplier<T> call) {
+    statistics.clear();
+    T result = call.get();
+    long count = statistics.getPrepareStatementCount();
+    assertTrue(count <= max, () -> String.format(
+        "expected at most %d SQL statements but was %d (entity loads=%d, entity fetches=%d, collection fetches=%d, queries=%s)",
+        max, count, statistics.getEntityLoadCount(), statistics.getEntityFetchCount(),
+        statistics.getCollectionFetchCount(), Arrays.toString(statistics.getQueries())));
+    return result;
+  }
+
+  public void assertMaxStatements(long max, Runnable call) {
+    assertMaxStatements(max, () -> {
+      call.run();
+      return null;
+    });
+  }
+}
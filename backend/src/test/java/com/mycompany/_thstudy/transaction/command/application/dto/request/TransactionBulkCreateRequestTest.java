@@ -0,0 +1,71 @@
+package com.mycompany._thstudy.transaction.command.application.dto.request;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionBulkCreateRequestTest {
+
+  private static ValidatorFactory factory;
+  private static Validator validator;
+
+  @BeforeAll
+  static void setUp() {
+    factory = Validation.buildDefaultValidatorFactory();
+    validator = factory.getValidator();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    factory.close();
+  }
+
+  @Test
+  void nullItem_isRejected() {
+    Set<ConstraintViolation<TransactionBulkCreateRequest>> violations =
+        validator.validate(request(Arrays.asList(item(), null)));
+
+    assertEquals(1, violations.size());
+    assertTrue(violations.iterator().next().getPropertyPath().toString().startsWith("items[1]"));
+  }
+
+  @Test
+  void invalidItemField_isRejected() {
+    TransactionCreateRequest invalid = item();
+    ReflectionTestUtils.setField(invalid, "amount", 0L);
+
+    Set<ConstraintViolation<TransactionBulkCreateRequest>> violations = validator.validate(request(List.of(invalid)));
+
+    assertEquals(1, violations.size());
+    assertEquals("items[0].amount", violations.iterator().next().getPropertyPath().toString());
+  }
+
+  @Test
+  void validItems_pass() {
+    assertTrue(validator.validate(request(List.of(item(), item()))).isEmpty());
+  }
+
+  private static TransactionBulkCreateRequest request(List<TransactionCreateRequest> items) {
+    TransactionBulkCreateRequest request = new TransactionBulkCreateRequest();
+    ReflectionTestUtils.setField(request, "items", items);
+    return request;
+  }
+
+  private static TransactionCreateRequest item() {
+    return new TransactionCreateRequest(null, 10L, CategoryType.EXPENSE, 1_000L, "점심", LocalDate.of(2024, 3, 15));
+  }
+}
@@ -0,0 +1,164 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 한 계좌에 여러 스레드가 동시에 거래를 등록해도 잔액이 정확히 맞는지 확인한다.
+ * 각 등록이 별도 트랜잭션으로 커밋되어야 하므로 테스트 메서드에 @Transactional 을 두지 않고 직접 정리한다.
+ */
+@SpringBootTest
+class TransactionBalanceConcurrencyTest {
+
+  private static final int THREADS = 16;
+
+  @Autowired
+  private TransactionCommandService transactionCommandService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Long userId;
+  private Long incomeCategoryId;
+  private Long expenseCategoryId;
+  private Long accountId;
+
+  @BeforeEach
+  void seed() {
+    String email = "balance_" + System.nanoTime() + "@test.com";
+    jdbcTemplate.update(
+        "INSERT INTO users(email, password, nickname, role, created_at, updated_at) VALUES (?, 'x', 'balance', 'USER', NOW(6), NOW(6))",
+        email);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    jdbcTemplate.update(
+        "INSERT INTO categories(user_id, name, type, created_at) VALUES (?, '급여', 'INCOME', NOW(6)), (?, '식비', 'EXPENSE', NOW(6))",
+        userId, userId);
+    incomeCategoryId = jdbcTemplate.queryForObject(
+        "SELECT id FROM categories WHERE user_id = ? AND type = 'INCOME'", Long.class, userId);
+    expenseCategoryId = jdbcTemplate.queryForObject(
+        "SELECT id FROM categories WHERE user_id = ? AND type = 'EXPENSE'", Long.class, userId);
+    jdbcTemplate.update(
+        "INSERT INTO accounts(user_id, name, balance, created_at, updated_at) VALUES (?, '통장', 0, NOW(6), NOW(6))",
+        userId);
+    accountId = jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE user_id = ?", Long.class, userId);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM transactions WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM monthly_category_totals WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM account_ledger_entries WHERE account_id = ?", accountId);
+    jdbcTemplate.update("DELETE FROM accounts WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM categories WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+  }
+
+  @Test
+  void concurrentIncomeAndExpense_finalBalanceIsExact() throws Exception {
+    setBalance(100_000L);
+    int perThread = 50;
+
+    // 스레드마다 수입 +7, 지출 -5 를 번갈아 등록
+    runConcurrently(perThread, i -> i % 2 == 0
+        ? request(incomeCategoryId, CategoryType.INCOME, 7L)
+        : request(expenseCategoryId, CategoryType.EXPENSE, 5L));
+
+    long incomes = (long) THREADS * perThread / 2;
+    long expenses = (long) THREADS * perThread / 2;
+    assertEquals(100_000L + incomes * 7 - expenses * 5, balance());
+    assertEquals((long) THREADS * perThread, transactionCount());
+    // 원장의 마지막 반영 후 잔액이 실제 잔액과 같다 (잠금 순서대로 기록됨)
+    assertEquals(balance(), lastLedgerBalance());
+  }
+
+  @Test
+  void concurrentExpenses_neverOverdraw() throws Exception {
+    setBalance(1_000L);
+
+    // 총 16 * 10 * 100 = 16,000 원을 시도하지만 잔액은 1,000 원 → 정확히 10건만 성공
+    AtomicInteger rejected = runConcurrently(10, i -> request(expenseCategoryId, CategoryType.EXPENSE, 100L));
+
+    assertEquals(0L, balance());
+    assertEquals(10L, transactionCount());
+    assertEquals(THREADS * 10 - 10, rejected.get());
+  }
+
+  private AtomicInteger runConcurrently(int perThread, RequestFactory factory) throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger rejected = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < THREADS; t++) {
+        futures.add(pool.submit(() -> {
+          start.await();
+          for (int i = 0; i < perThread; i++) {
+            try {
+              transactionCommandService.createTransaction(userId, factory.create(i));
+            } catch (BusinessException e) {
+              assertEquals(ErrorCode.INSUFFICIENT_BALANCE, e.getErrorCode());
+              rejected.incrementAndGet();
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdownNow();
+      assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+    return rejected;
+  }
+
+  private TransactionCreateRequest request(Long categoryId, CategoryType type, long amount) {
+    return new TransactionCreateRequest(accountId, categoryId, type, amount, null, LocalDate.now());
+  }
+
+  private void setBalance(long balance) {
+    jdbcTemplate.update("UPDATE accounts SET balance = ? WHERE id = ?", balance, accountId);
+  }
+
+  private long balance() {
+    return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", Long.class, accountId);
+  }
+
+  private long lastLedgerBalance() {
+    return jdbcTemplate.queryForObject(
+        "SELECT balance_after FROM account_ledger_entries WHERE account_id = ? ORDER BY id DESC LIMIT 1",
+        Long.class, accountId);
+  }
+
+  private long transactionCount() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions WHERE user_id = ?", Long.class, userId);
+  }
+
+  @FunctionalInterface
+  private interface RequestFactory {
+    TransactionCreateRequest create(int index);
+  }
+}
@@ -0,0 +1,146 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.account.command.application.service.AccountLedgerRecorder;
+import com.mycompany._thstudy.account.command.domain.aggregate.AccountLedgerEntry;
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.common.event.UserDataChangedEvent;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.response.BulkAccountRef;
+import com.mycompany._thstudy.transaction.command.application.dto.response.BulkCategoryRef;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse;
+import com.mycompany._thstudy.transaction.command.application.mapper.TransactionBulkMapper;
+import com.mycompany._thstudy.transaction.command.infrastructure.repository.TransactionBatchWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBulkCommandServiceTest {
+
+  @Mock
+  private TransactionBulkMapper transactionBulkMapper;
+
+  @Mock
+  private TransactionBatchWriter transactionBatchWriter;
+
+  @Mock
+  private MonthlyCategoryTotalUpdater monthlyCategoryTotalUpdater;
+
+  @Mock
+  private AccountLedgerRecorder accountLedgerRecorder;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private TransactionBulkCommandService transactionBulkCommandService;
+
+  @Test
+  void createTransactions_insertsValidItemsAndReportsFailures() {
+    when(transactionBulkMapper.findCategoriesByIds(anyCollection()))
+        .thenReturn(List.of(category(10L, 1L, CategoryType.EXPENSE), category(20L, 2L, CategoryType.EXPENSE)));
+    when(transactionBulkMapper.findAccountsByIdsForUpdate(eq(1L), anyCollection()))
+        .thenReturn(List.of(account(100L, 1L, 5_000L)));
+    when(transactionBatchWriter.insertAll(anyList())).thenReturn(List.of(501L, 502L));
+
+    List<TransactionCreateRequest> items = List.of(
+        item(100L, 10L, 3_000L),   // 성공 (잔액 5000 → 2000)
+        item(100L, 10L, 3_000L),   // 잔액 부족
+        item(null, 20L, 1_000L),   // 다른 사용자의 카테고리
+        item(100L, 10L, 2_000L)    // 성공 (잔액 2000 → 0)
+    );
+
+    TransactionBulkCreateResponse response = transactionBulkCommandService.createTransactions(1L, items);
+
+    assertEquals(2, response.getCreated());
+    assertEquals(2, response.getFailed());
+    assertTrue(response.getResults().get(0).isSuccess());
+    assertEquals(501L, response.getResults().get(0).getId());
+    assertEquals(ErrorCode.INSUFFICIENT_BALANCE.getCode(), response.getResults().get(1).getErrorCode());
+    assertEquals(ErrorCode.ACCESS_DENIED.getCode(), response.getResults().get(2).getErrorCode());
+    assertFalse(response.getResults().get(2).isSuccess());
+    assertEquals(502L, response.getResults().get(3).getId());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<Long, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+    verify(transactionBatchWriter).addToBalances(deltas.capture());
+    assertEquals(Map.of(100L, -5_000L), deltas.getValue());
+
+    // 원장에는 거래별 반영 후 잔액이 요청 순서대로 남는다
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<AccountLedgerEntry>> ledger = ArgumentCaptor.forClass(List.class);
+    verify(accountLedgerRecorder).recordTransactions(ledger.capture());
+    assertEquals(2, ledger.getValue().size());
+    assertEquals(501L, ledger.getValue().get(0).getTransactionId());
+    assertEquals(-3_000L, ledger.getValue().get(0).getAmount());
+    assertEquals(2_000L, ledger.getValue().get(0).getBalanceAfter());
+    assertEquals(0L, ledger.getValue().get(1).getBalanceAfter());
+
+    verify(monthlyCategoryTotalUpdater).addTotals(
+        1L, LocalDate.of(2024, 3, 1), 10L, CategoryType.EXPENSE, 5_000L, 2);
+    verify(eventPublisher).publishEvent(any(UserDataChangedEvent.class));
+  }
+
+  @Test
+  void createTransactions_otherUsersAccount_isNotFound() {
+    when(transactionBulkMapper.findCategoriesByIds(anyCollection()))
+        .thenReturn(List.of(category(10L, 1L, CategoryType.EXPENSE)));
+    // 200 은 다른 사용자의 계좌라 user_id 조건에 걸려 조회/잠금되지 않는다
+    when(transactionBulkMapper.findAccountsByIdsForUpdate(eq(1L), anyCollection()))
+        .thenReturn(List.of());
+
+    TransactionBulkCreateResponse response =
+        transactionBulkCommandService.createTransactions(1L, List.of(item(200L, 10L, 1_000L)));
+
+    assertEquals(0, response.getCreated());
+    assertEquals(ErrorCode.ACCOUNT_NOT_FOUND.getCode(), response.getResults().get(0).getErrorCode());
+    verify(transactionBulkMapper).findAccountsByIdsForUpdate(1L, Set.of(200L));
+  }
+
+  private static TransactionCreateRequest item(Long accountId, Long categoryId, Long amount) {
+    TransactionCreateRequest request = new TransactionCreateRequest();
+    ReflectionTestUtils.setField(request, "accountId", accountId);
+    ReflectionTestUtils.setField(request, "categoryId", categoryId);
+    ReflectionTestUtils.setField(request, "type", CategoryType.EXPENSE);
+    ReflectionTestUtils.setField(request, "amount", amount);
+    ReflectionTestUtils.setField(request, "transactionDate", LocalDate.of(2024, 3, 15));
+    return request;
+  }
+
+  private static BulkCategoryRef category(Long id, Long userId, CategoryType type) {
+    BulkCategoryRef ref = new BulkCategoryRef();
+    ReflectionTestUtils.setField(ref, "id", id);
+    ReflectionTestUtils.setField(ref, "userId", userId);
+    ReflectionTestUtils.setField(ref, "type", type);
+    return ref;
+  }
+
+  private static BulkAccountRef account(Long id, Long userId, long balance) {
+    BulkAccountRef ref = new BulkAccountRef();
+    ReflectionTestUtils.setField(ref, "id", id);
+    ReflectionTestUtils.setField(ref, "userId", userId);
+    ReflectionTestUtils.setField(ref, "balance", balance);
+    return ref;
+  }
+}
@@ -1,12 +1,19 @@
 package com.mycompany._thstudy.transaction.command.application.service;
 
+import com.mycompany._thstudy.account.command.application.service.AccountLedgerRecorder;
+import com.mycompany._thstudy.account.command.domain.aggregate.Account;
+import com.mycompany._thstudy.account.command.domain.repository.AccountRepository;
 import com.mycompany._thstudy.category.command.domain.aggregate.Category;
 import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
 import com.mycompany._thstudy.category.command.domain.repository.CategoryRepository;
 import com.mycompany._thstudy.exception.BusinessException;
 import com.mycompany._thstudy.exception.ErrorCode;
 import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionUpdateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionWriteRefs;
+import com.mycompany._thstudy.transaction.command.domain.aggregate.Transaction;
 import com.mycompany._thstudy.transaction.command.domain.repository.TransactionRepository;
+import com.mycompany._thstudy.transaction.command.infrastructure.repository.TransactionWriteLoader;
 import com.mycompany._thstudy.user.command.domain.aggregate.User;
 import com.mycompany._thstudy.user.command.domain.aggregate.UserRole;
 import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
@@ -15,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -30,12 +38,27 @@ class TransactionCommandServiceTest {
   @Mock
   private TransactionRepository transactionRepository;
 
+  @Mock
+  private TransactionWriteLoader transactionWriteLoader;
+
   @Mock
   private CategoryRepository categoryRepository;
 
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private MonthlyCategoryTotalUpdater monthlyCategoryTotalUpdater;
+
+  @Mock
+  private AccountLedgerRecorder accountLedgerRecorder;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private TransactionCommandService transactionCommandService;
 
@@ -49,13 +72,6 @@ class TransactionCommandServiceTest {
         .role(UserRole.USER)
         .build();
 
-    Category category = Category.builder()
-        .id(10L)
-        .user(user)
-        .name("식비")
-        .type(CategoryType.EXPENSE)
-        .build();
-
     TransactionCreateRequest request = new TransactionCreateRequest();
     ReflectionTestUtils.setField(request, "categoryId", 10L);
     ReflectionTestUtils.setField(request, "type", CategoryType.EXPENSE);
@@ -63,11 +79,11 @@ class TransactionCommandServiceTest {
     ReflectionTestUtils.setField(request, "description", "점심");
     ReflectionTestUtils.setField(request, "transactionDate", LocalDate.now());
 
-    when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
-    when(categoryRepository.findById(10L)).thenReturn(Optional.of(category));
+    when(userRepository.getReferenceById(1L)).thenReturn(user);
+    when(transactionWriteLoader.loadForCreate(10L, null)).thenReturn(Optional.of(expenseCategoryRefs()));
 
     BusinessException ex = assertThrows(BusinessException.class,
-        () -> transactionCommandService.createTransaction("user@test.com", request));
+        () -> transactionCommandService.createTransaction(1L, request));
 
     assertEquals(ErrorCode.NEGATIVE_AMOUNT, ex.getErrorCode());
   }
@@ -82,13 +98,6 @@ class TransactionCommandServiceTest {
         .role(UserRole.USER)
         .build();
 
-    Category category = Category.builder()
-        .id(10L)
-        .user(user)
-        .name("식비")
-        .type(CategoryType.EXPENSE)
-        .build();
-
     TransactionCreateRequest request = new TransactionCreateRequest();
     ReflectionTestUtils.setField(request, "categoryId", 10L);
     ReflectionTestUtils.setField(request, "type", CategoryType.INCOME);
@@ -96,13 +105,50 @@ class TransactionCommandServiceTest {
     ReflectionTestUtils.setField(request, "description", "테스트");
     ReflectionTestUtils.setField(request, "transactionDate", LocalDate.now());
 
-    when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
-    when(categoryRepository.findById(10L)).thenReturn(Optional.of(category));
+    when(userRepository.getReferenceById(1L)).thenReturn(user);
+    when(transactionWriteLoader.loadForCreate(10L, null)).thenReturn(Optional.of(expenseCategoryRefs()));
 
     BusinessException ex = assertThrows(BusinessException.class,
-        () -> transactionCommandService.createTransaction("user@test.com", request));
+        () -> transactionCommandService.createTransaction(1L, request));
 
     assertEquals(ErrorCode.CATEGORY_TYPE_MISMATCH, ex.getErrorCode());
   }
-}
 
+  @Test
+  void updateTransaction_movingIncomeOffDrainedAccount_throwsBalanceWouldBeNegative() {
+    User user = User.builder().id(1L).email("user@test.com").password("encoded").nickname("user")
+        .role(UserRole.USER).build();
+    // 계좌 100 에 들어온 수입 5000 을 계좌 200 으로 옮기는데, 계좌 100 은 이미 그만큼 써 버린 상태
+    Transaction transaction = Transaction.builder()
+        .id(7L)
+        .user(user)
+        .account(Account.builder().id(100L).build())
+        .category(Category.builder().id(20L).type(CategoryType.INCOME).build())
+        .type(CategoryType.INCOME)
+        .amount(5_000L)
+        .transactionDate(LocalDate.now())
+        .build();
+
+    TransactionUpdateRequest request = new TransactionUpdateRequest();
+    ReflectionTestUtils.setField(request, "accountId", 200L);
+    ReflectionTestUtils.setField(request, "categoryId", 20L);
+    ReflectionTestUtils.setField(request, "type", CategoryType.INCOME);
+    ReflectionTestUtils.setField(request, "amount", 5_000L);
+    ReflectionTestUtils.setField(request, "transactionDate", LocalDate.now());
+
+    when(transactionWriteLoader.loadForUpdate(7L, 20L, 200L)).thenReturn(Optional.of(
+        new TransactionWriteRefs(transaction, 20L, 1L, CategoryType.INCOME, "급여", 200L, 1L, "생활비")));
+    when(accountRepository.getReferenceById(200L)).thenReturn(Account.builder().id(200L).build());
+    when(accountRepository.addBalance(100L, -5_000L)).thenReturn(0);
+
+    BusinessException ex = assertThrows(BusinessException.class,
+        () -> transactionCommandService.updateTransaction(1L, 7L, request));
+
+    // 기존 계좌에서 되돌리는 쪽은 "잔액 부족" 이 아니라 "0원 미만이 되어 불가"
+    assertEquals(ErrorCode.BALANCE_WOULD_BE_NEGATIVE, ex.getErrorCode());
+  }
+
+  private static TransactionWriteRefs expenseCategoryRefs() {
+    return new TransactionWriteRefs(null, 10L, 1L, CategoryType.EXPENSE, "식비", null, null, null);
+  }
+}
@@ -0,0 +1,207 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.account.query.dto.response.AccountResponse;
+import com.mycompany._thstudy.account.query.service.AccountQueryService;
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.category.query.dto.response.CategoryResponse;
+import com.mycompany._thstudy.category.query.service.CategoryQueryService;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionBulkCreateResponse.ItemResult;
+import com.mycompany._thstudy.transaction.command.application.mapper.TransactionBulkMapper;
+import com.mycompany._thstudy.transaction.command.importer.ImportFormat;
+import com.mycompany._thstudy.transaction.command.importer.ImportJob;
+import com.mycompany._thstudy.transaction.command.importer.TransactionCsvReader;
+import com.mycompany._thstudy.transaction.command.importer.TransactionXlsxReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceTest {
+
+  @Mock
+  private TransactionBulkCommandService transactionBulkCommandService;
+
+  @Mock
+  private TransactionBulkMapper transactionBulkMapper;
+
+  @Mock
+  private CategoryQueryService categoryQueryService;
+
+  @Mock
+  private AccountQueryService accountQueryService;
+
+  @TempDir
+  Path tempDir;
+
+  private TransactionImportService transactionImportService;
+
+  @BeforeEach
+  void setUp() {
+    transactionImportService = new TransactionImportService(
+        transactionBulkCommandService, transactionBulkMapper, categoryQueryService, accountQueryService,
+        new TransactionCsvReader(), new TransactionXlsxReader());
+    ReflectionTestUtils.setField(transactionImportService, "batchSize", 2);
+
+    when(categoryQueryService.getCategories(1L)).thenReturn(List.of(
+        new CategoryResponse(10L, "식비", "EXPENSE"),
+        new CategoryResponse(20L, "급여", "INCOME")));
+    when(accountQueryService.getAccounts(1L)).thenReturn(List.of(new AccountResponse(100L, "월급통장", 0L)));
+  }
+
+  @Test
+  void importFile_resolvesNamesAndWritesInBatches() throws Exception {
+    Path file = csv(
+        "\uFEFF날짜,유형,카테고리,금액,메모,계좌",
+        "\"2024-03-02\",지출,식비,\"12,000\",\"점심, 김밥\",월급통장",
+        "\"2024-03-02\",지출,식비,12000,\"점심, 김밥\",월급통장",
+        "\"2024-03-01\",수입,급여,3000000,\"\",월급통장");
+    when(transactionBulkMapper.findExistingImportHashes(eq(1L), anyCollection())).thenReturn(List.of());
+    when(transactionBulkCommandService.createTransactions(eq(1L), anyList(), anyList()))
+        .thenAnswer(invocation -> created(invocation.<List<?>>getArgument(1).size()));
+
+    ImportJob job = job();
+    transactionImportService.importFile(job, file);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransactionCreateRequest>> items = ArgumentCaptor.forClass(List.class);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> hashes = ArgumentCaptor.forClass(List.class);
+    verify(transactionBulkCommandService, times(2)).createTransactions(eq(1L), items.capture(), hashes.capture());
+
+    // batchSize=2 → 2건 + 1건
+    List<TransactionCreateRequest> first = items.getAllValues().get(0);
+    assertEquals(2, first.size());
+    assertEquals(10L, first.get(0).getCategoryId());
+    assertEquals(100L, first.get(0).getAccountId());
+    assertEquals(12_000L, first.get(0).getAmount());
+    assertEquals("점심, 김밥", first.get(0).getDescription());
+    assertEquals(LocalDate.of(2024, 3, 2), first.get(0).getTransactionDate());
+
+    // 같은 날 같은 내용의 거래 두 건은 등장 순번으로 구분된다
+    assertNotEquals(hashes.getAllValues().get(0).get(0), hashes.getAllValues().get(0).get(1));
+
+    TransactionCreateRequest income = items.getAllValues().get(1).get(0);
+    assertEquals(CategoryType.INCOME, income.getType());
+    assertNull(income.getDescription());
+
+    assertEquals(3, job.getProcessedRows());
+    assertEquals(3, job.getImportedRows());
+    assertEquals(0, job.getFailedRows());
+  }
+
+  @Test
+  void importFile_skipsAlreadyImportedRows() throws Exception {
+    Path file = csv(
+        "날짜,유형,카테고리,금액,메모",
+        "2024-03-02,지출,식비,5000,커피");
+    List<String> firstRunHashes = new ArrayList<>();
+    when(transactionBulkMapper.findExistingImportHashes(eq(1L), anyCollection())).thenReturn(List.of());
+    when(transactionBulkCommandService.createTransactions(eq(1L), anyList(), anyList()))
+        .thenAnswer(invocation -> {
+          firstRunHashes.addAll(invocation.getArgument(2));
+          return created(1);
+        });
+    transactionImportService.importFile(job(), file);
+
+    // 같은 파일을 다시 가져오면 저장된 해시와 같으므로 건너뛴다
+    when(transactionBulkMapper.findExistingImportHashes(eq(1L), anyCollection())).thenReturn(firstRunHashes);
+    ImportJob again = job();
+    transactionImportService.importFile(again, file);
+
+    verify(transactionBulkCommandService, times(1)).createTransactions(eq(1L), anyList(), anyList());
+    assertEquals(1, again.getDuplicateRows());
+    assertEquals(0, again.getImportedRows());
+  }
+
+  @Test
+  void importFile_sameContentSplitByOtherDate_keepsBothRows() throws Exception {
+    // 날짜순이 아닌 파일: A(3/1), B(3/2), A(3/1) → A 두 건은 서로 다른 거래다
+    Path file = csv(
+        "날짜,유형,카테고리,금액,메모",
+        "2024-03-01,지출,식비,5000,커피",
+        "2024-03-02,지출,식비,7000,점심",
+        "2024-03-01,지출,식비,5000,커피");
+    when(transactionBulkMapper.findExistingImportHashes(eq(1L), anyCollection())).thenReturn(List.of());
+    when(transactionBulkCommandService.createTransactions(eq(1L), anyList(), anyList()))
+        .thenAnswer(invocation -> created(invocation.<List<?>>getArgument(1).size()));
+
+    ImportJob job = job();
+    transactionImportService.importFile(job, file);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> hashes = ArgumentCaptor.forClass(List.class);
+    verify(transactionBulkCommandService, times(2)).createTransactions(eq(1L), anyList(), hashes.capture());
+    List<String> all = hashes.getAllValues().stream().flatMap(List::stream).toList();
+    assertEquals(3, all.size());
+    assertNotEquals(all.get(0), all.get(2));
+
+    assertEquals(3, job.getImportedRows());
+    assertEquals(0, job.getDuplicateRows());
+  }
+
+  @Test
+  void importFile_reportsInvalidRowsWithRowNumber() throws Exception {
+    Path file = csv(
+        "날짜,유형,카테고리,금액,메모",
+        "2024-13-40,지출,식비,5000,",
+        "2024-03-02,지출,없는카테고리,5000,",
+        "2024-03-02,지출,식비,5000,,없는계좌");
+
+    ImportJob job = job();
+    transactionImportService.importFile(job, file);
+
+    assertEquals(3, job.getFailedRows());
+    assertEquals(2, job.getErrors().get(0).getRow());
+    assertEquals(ErrorCode.INVALID_INPUT.getCode(), job.getErrors().get(0).getErrorCode());
+    assertEquals(ErrorCode.CATEGORY_NOT_FOUND.getCode(), job.getErrors().get(1).getErrorCode());
+    assertEquals(ErrorCode.ACCOUNT_NOT_FOUND.getCode(), job.getErrors().get(2).getErrorCode());
+  }
+
+  private ImportJob job() {
+    return new ImportJob("job-1", 1L, ImportFormat.CSV, "transactions.csv", 0L);
+  }
+
+  private Path csv(String... lines) throws Exception {
+    Path file = Files.createTempFile(tempDir, "import", ".csv");
+    Files.writeString(file, String.join("\r\n", lines) + "\r\n", StandardCharsets.UTF_8);
+    return file;
+  }
+
+  private static TransactionBulkCreateResponse created(int count) {
+    List<ItemResult> results = IntStream.range(0, count)
+        .mapToObj(i -> ItemResult.created(i, 1000L + i))
+        .toList();
+    return TransactionBulkCreateResponse.builder()
+        .requested(count)
+        .created(count)
+        .failed(0)
+        .results(results)
+        .build();
+  }
+}
@@ -0,0 +1,100 @@
+package com.mycompany._thstudy.transaction.command.application.service;
+
+import com.mycompany._thstudy.category.command.domain.aggregate.CategoryType;
+import com.mycompany._thstudy.support.HibernateStatementCounter;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionCreateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.request.TransactionUpdateRequest;
+import com.mycompany._thstudy.transaction.command.application.dto.response.TransactionCommandResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 거래 등록/수정/삭제가 Hibernate 문장을 몇 번 실행하는지 상한을 고정한다.
+ * 검증 로더 1 + 잔액 UPDATE 1 + 거래 INSERT/UPDATE/DELETE 1 = 3.
+ * 원장/월별 집계는 MyBatis 로 실행되어 Hibernate 통계에 잡히지 않는다.
+ * 각 호출이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 을 두지 않고 직접 정리한다.
+ */
+@SpringBootTest
+class TransactionWriteStatementCountTest {
+
+  private static final int EXPECTED_STATEMENTS = 3;
+
+  @Autowired
+  private TransactionCommandService transactionCommandService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private HibernateStatementCounter statementCounter;
+  private Long userId;
+  private Long categoryId;
+  private Long accountId;
+
+  @BeforeEach
+  void seed() {
+    statementCounter = new HibernateStatementCounter(entityManagerFactory);
+
+    String email = "stmt_" + System.nanoTime() + "@test.com";
+    jdbcTemplate.update(
+        "INSERT INTO users(email, password, nickname, role, created_at, updated_at) VALUES (?, 'x', 'stmt', 'USER', NOW(6), NOW(6))",
+        email);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    jdbcTemplate.update(
+        "INSERT INTO categories(user_id, name, type, created_at) VALUES (?, '식비', 'EXPENSE', NOW(6))", userId);
+    categoryId = jdbcTemplate.queryForObject(
+        "SELECT id FROM categories WHERE user_id = ?", Long.class, userId);
+    jdbcTemplate.update(
+        "INSERT INTO accounts(user_id, name, balance, created_at, updated_at) VALUES (?, '통장', 100000, NOW(6), NOW(6))",
+        userId);
+    accountId = jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE user_id = ?", Long.class, userId);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM transactions WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM monthly_category_totals WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM account_ledger_entries WHERE account_id = ?", accountId);
+    jdbcTemplate.update("DELETE FROM accounts WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM categories WHERE user_id = ?", userId);
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+  }
+
+  @Test
+  void createUpdateDelete_eachRunsThreeStatements() {
+    TransactionCommandResponse created = statementCounter.assertMaxStatements(EXPECTED_STATEMENTS,
+        () -> transactionCommandService.createTransaction(userId, new TransactionCreateRequest(
+            accountId, categoryId, CategoryType.EXPENSE, 10_000L, "점심", LocalDate.of(2024, 3, 15))));
+    assertEquals("통장", created.getAccountName());
+    assertEquals("식비", created.getCategoryName());
+
+    TransactionUpdateRequest update = new TransactionUpdateRequest();
+    ReflectionTestUtils.setField(update, "accountId", accountId);
+    ReflectionTestUtils.setField(update, "categoryId", categoryId);
+    ReflectionTestUtils.setField(update, "type", CategoryType.EXPENSE);
+    ReflectionTestUtils.setField(update, "amount", 12_000L);
+    ReflectionTestUtils.setField(update, "description", "저녁");
+    ReflectionTestUtils.setField(update, "transactionDate", LocalDate.of(2024, 3, 16));
+
+    statementCounter.assertMaxStatements(EXPECTED_STATEMENTS,
+        () -> transactionCommandService.updateTransaction(userId, created.getId(), update));
+
+    statementCounter.assertMaxStatements(EXPECTED_STATEMENTS,
+        () -> transactionCommandService.deleteTransaction(userId, created.getId()));
+
+    assertEquals(100_000L, jdbcTemplate.queryForObject(
+        "SELECT balance FROM accounts WHERE id = ?", Long.class, accountId));
+  }
+}
@@ -0,0 +1,37 @@
+package com.mycompany._thstudy.transaction.command.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionCsvReaderTest {
+
+  private final TransactionCsvReader reader = new TransactionCsvReader();
+
+  @Test
+  void read_handlesQuotesNewlinesAndBom() throws Exception {
+    String csv = "\uFEFF날짜,메모\r\n"
+        + "\"2024-03-01\",\"쉼표, 포함\"\r\n"
+        + "\n"
+        + "2024-03-02,\"줄\n바꿈 \"\"인용\"\"\"\n"
+        + "2024-03-03,";
+
+    List<Integer> rowNumbers = new ArrayList<>();
+    List<List<String>> rows = new ArrayList<>();
+    reader.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), (rowNumber, cells) -> {
+      rowNumbers.add(rowNumber);
+      rows.add(List.copyOf(cells));
+    });
+
+    assertEquals(List.of(1, 2, 4, 5), rowNumbers);
+    assertEquals(List.of("날짜", "메모"), rows.get(0));
+    assertEquals(List.of("2024-03-01", "쉼표, 포함"), rows.get(1));
+    assertEquals(List.of("2024-03-02", "줄\n바꿈 \"인용\""), rows.get(2));
+    assertEquals(List.of("2024-03-03", ""), rows.get(3));
+  }
+}
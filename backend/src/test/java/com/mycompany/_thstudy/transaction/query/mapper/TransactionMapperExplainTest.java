@@ -0,0 +1,108 @@
+package com.mycompany._thstudy.transaction.query.mapper;
+
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 일 집계 쿼리가 transaction_date 에 함수를 씌우지 않고
+ * idx_transactions_user_date_cover 범위 스캔만으로(테이블 본문 접근 없이, Using index) 끝나는지 EXPLAIN 으로 확인한다.
+ * (월 요약은 monthly_category_totals 롤업을 읽으므로 대상이 아니다)
+ */
+@SpringBootTest
+@Transactional
+class TransactionMapperExplainTest {
+
+  private static final String NAMESPACE = TransactionMapper.class.getName();
+  private static final String EMAIL = "explain_" + System.nanoTime() + "@test.com";
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Long userId;
+
+  @BeforeEach
+  void seed() {
+    jdbcTemplate.update(
+        "INSERT INTO users(email, password, nickname, role, created_at, updated_at) VALUES (?, 'x', 'explain', 'USER', NOW(6), NOW(6))",
+        EMAIL);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, EMAIL);
+    jdbcTemplate.update(
+        "INSERT INTO categories(user_id, name, type, created_at) VALUES (?, 'FOOD', 'EXPENSE', NOW(6))", userId);
+    Long categoryId = jdbcTemplate.queryForObject(
+        "SELECT id FROM categories WHERE user_id = ? AND name = 'FOOD'", Long.class, userId);
+
+    // 2년치 데이터를 넣어 한 달 구간이 충분히 선택적이 되도록 한다
+    LocalDate start = LocalDate.of(2023, 1, 1);
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < 730; i++) {
+      rows.add(new Object[]{userId, categoryId, 1000L + i, start.plusDays(i)});
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO transactions(user_id, category_id, type, amount, transaction_date, created_at, updated_at) "
+            + "VALUES (?, ?, 'EXPENSE', ?, ?, NOW(6), NOW(6))",
+        rows);
+  }
+
+  @Test
+  void findDailySummary_usesDateRangeIndex() {
+    assertRangeScan("findDailySummary");
+  }
+
+  private void assertRangeScan(String statementId) {
+    MapperMethod.ParamMap<Object> params = new MapperMethod.ParamMap<>();
+    params.put("userId", userId);
+    params.put("startDate", LocalDate.of(2024, 3, 1));
+    params.put("endDate", LocalDate.of(2024, 4, 1));
+
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    MappedStatement ms = configuration.getMappedStatement(NAMESPACE + "." + statementId);
+    BoundSql boundSql = ms.getBoundSql(params);
+    String sql = boundSql.getSql();
+
+    // 인덱스 컬럼을 함수로 감싸면 범위 스캔이 불가능하다
+    assertFalse(sql.toUpperCase().contains("YEAR("), sql);
+    assertFalse(sql.toUpperCase().contains("MONTH("), sql);
+
+    MetaObject meta = configuration.newMetaObject(params);
+    Object[] args = boundSql.getParameterMappings().stream()
+        .map(ParameterMapping::getProperty)
+        .map(meta::getValue)
+        .toArray();
+
+    List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+    Map<String, Object> transactionsRow = plan.stream()
+        .filter(row -> "t".equals(row.get("table")))
+        .findFirst()
+        .orElse(null);
+
+    assertNotNull(transactionsRow, plan.toString());
+    assertEquals("range", transactionsRow.get("type"), plan.toString());
+    assertEquals("idx_transactions_user_date_cover", transactionsRow.get("key"), plan.toString());
+    String extra = String.valueOf(transactionsRow.get("Extra"));
+    assertTrue(extra.contains("Using index"), plan.toString());
+  }
+}
@@ -0,0 +1,147 @@
+package com.mycompany._thstudy.transaction.query.service;
+
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.query.export.ExportFormat;
+import com.mycompany._thstudy.transaction.query.export.ExportJob;
+import com.mycompany._thstudy.transaction.query.export.ExportJobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ExportJobServiceTest {
+
+  @Mock
+  private TransactionQueryService transactionQueryService;
+
+  @TempDir
+  Path spoolDir;
+
+  private ExportJobService exportJobService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    exportJobService = new ExportJobService(transactionQueryService);
+    ReflectionTestUtils.setField(exportJobService, "spoolDirectory", spoolDir.toString());
+    ReflectionTestUtils.setField(exportJobService, "workers", 1);
+    ReflectionTestUtils.setField(exportJobService, "queueCapacity", 4);
+    ReflectionTestUtils.setField(exportJobService, "ttl", Duration.ofMinutes(30));
+    exportJobService.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    exportJobService.shutdown();
+  }
+
+  @Test
+  void submit_writesFileToSpoolDirectory() throws Exception {
+    doAnswer(invocation -> {
+      OutputStream out = invocation.getArgument(3);
+      out.write("csv-body".getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(transactionQueryService).streamCsv(eq(1L), any(), any(), any());
+
+    ExportJob job = exportJobService.submit(1L, ExportFormat.CSV, null, null);
+    waitUntilFinished(job);
+
+    assertEquals(ExportJobStatus.COMPLETED, job.getStatus());
+    assertEquals("csv-body", Files.readString(job.getFile()));
+    assertEquals(8L, job.getFileSize());
+  }
+
+  @Test
+  void getJob_otherUser_throwsNotFound() throws Exception {
+    ExportJob job = exportJobService.submit(1L, ExportFormat.CSV, null, null);
+    waitUntilFinished(job);
+
+    BusinessException ex = assertThrows(BusinessException.class,
+        () -> exportJobService.getJob(2L, job.getId()));
+
+    assertEquals(ErrorCode.EXPORT_JOB_NOT_FOUND, ex.getErrorCode());
+  }
+
+  @Test
+  void purgeExpired_keepsFileWhileDownloading() throws Exception {
+    ExportJob job = exportJobService.submit(1L, ExportFormat.CSV, null, null);
+    waitUntilFinished(job);
+    ReflectionTestUtils.setField(exportJobService, "ttl", Duration.ZERO);
+
+    ExportJob downloading = exportJobService.startDownload(1L, job.getId());
+    Thread.sleep(5);
+    exportJobService.purgeExpired();
+    assertTrue(Files.exists(job.getFile()));
+
+    exportJobService.finishDownload(downloading);
+    Thread.sleep(5);
+    exportJobService.purgeExpired();
+    assertFalse(Files.exists(job.getFile()));
+    assertThrows(BusinessException.class, () -> exportJobService.getJob(1L, job.getId()));
+  }
+
+  @Test
+  void submit_concurrentRequests_neverExceedPerUserLimit() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(transactionQueryService).streamCsv(eq(1L), any(), any(), any());
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    try (ExecutorService callers = Executors.newFixedThreadPool(4)) {
+      for (int i = 0; i < 4; i++) {
+        results.add(callers.submit(() -> {
+          start.await();
+          try {
+            exportJobService.submit(1L, ExportFormat.CSV, null, null);
+            return true;
+          } catch (BusinessException e) {
+            return false;
+          }
+        }));
+      }
+      start.countDown();
+      int accepted = 0;
+      for (Future<Boolean> result : results) {
+        accepted += result.get() ? 1 : 0;
+      }
+      assertEquals(2, accepted);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private void waitUntilFinished(ExportJob job) throws InterruptedException {
+    for (int i = 0; i < 100 && job.isActive(); i++) {
+      Thread.sleep(20);
+    }
+  }
+}
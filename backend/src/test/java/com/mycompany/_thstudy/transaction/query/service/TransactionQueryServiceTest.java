@@ -0,0 +1,95 @@
+package com.mycompany._thstudy.transaction.query.service;
+
+import com.mycompany._thstudy.exception.BusinessException;
+import com.mycompany._thstudy.exception.ErrorCode;
+import com.mycompany._thstudy.transaction.query.dto.request.TransactionCursor;
+import com.mycompany._thstudy.transaction.query.dto.request.TransactionSearchRequest;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionListResponse;
+import com.mycompany._thstudy.transaction.query.dto.response.TransactionPageResponse;
+import com.mycompany._thstudy.transaction.query.mapper.TransactionMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionQueryServiceTest {
+
+  @Mock
+  private TransactionMapper transactionMapper;
+
+  @InjectMocks
+  private TransactionQueryService transactionQueryService;
+
+  @Test
+  void getTransactionPage_hasNext_returnsCursorOfLastRow() {
+    TransactionSearchRequest req = new TransactionSearchRequest();
+    req.setSize(2);
+
+    List<TransactionListResponse> rows = new ArrayList<>(List.of(
+        row(30L, LocalDate.of(2025, 3, 10)),
+        row(29L, LocalDate.of(2025, 3, 9)),
+        row(28L, LocalDate.of(2025, 3, 9))
+    ));
+    when(transactionMapper.findPageByFilter(eq(1L), eq(req), any(), eq(3))).thenReturn(rows);
+
+    TransactionPageResponse page = transactionQueryService.getTransactionPage(1L, req);
+
+    assertEquals(2, page.getContent().size());
+    assertTrue(page.isHasNext());
+    TransactionCursor next = TransactionCursor.decode(page.getNextCursor());
+    assertEquals(LocalDate.of(2025, 3, 9), next.getTransactionDate());
+    assertEquals(29L, next.getId());
+  }
+
+  @Test
+  void getTransactionPage_lastPage_passesDecodedCursorAndReturnsNoCursor() {
+    TransactionSearchRequest req = new TransactionSearchRequest();
+    req.setSize(10);
+    req.setCursor(new TransactionCursor(LocalDate.of(2025, 3, 9), 29L).encode());
+
+    when(transactionMapper.findPageByFilter(eq(1L), eq(req), any(), eq(11)))
+        .thenReturn(List.of(row(28L, LocalDate.of(2025, 3, 9))));
+
+    TransactionPageResponse page = transactionQueryService.getTransactionPage(1L, req);
+
+    assertFalse(page.isHasNext());
+    assertNull(page.getNextCursor());
+
+    ArgumentCaptor<TransactionCursor> captor = ArgumentCaptor.forClass(TransactionCursor.class);
+    verify(transactionMapper).findPageByFilter(eq(1L), eq(req), captor.capture(), eq(11));
+    assertEquals(29L, captor.getValue().getId());
+  }
+
+  @Test
+  void getTransactionPage_invalidCursor_throwsBadRequest() {
+    TransactionSearchRequest req = new TransactionSearchRequest();
+    req.setSize(10);
+    req.setCursor("not-a-cursor");
+
+    BusinessException ex = assertThrows(BusinessException.class,
+        () -> transactionQueryService.getTransactionPage(1L, req));
+
+    assertEquals(ErrorCode.INVALID_CURSOR, ex.getErrorCode());
+  }
+
+  private TransactionListResponse row(Long id, LocalDate date) {
+    return new TransactionListResponse(id, null, null, "EXPENSE", 1L, "식비", 1000L, null, date);
+  }
+}
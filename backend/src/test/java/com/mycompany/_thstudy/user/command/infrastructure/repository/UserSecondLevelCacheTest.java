@@ -0,0 +1,80 @@
+package com.mycompany._thstudy.user.command.infrastructure.repository;
+
+import com.mycompany._thstudy.user.command.domain.aggregate.User;
+import com.mycompany._thstudy.user.command.domain.aggregate.UserRole;
+import com.mycompany._thstudy.user.command.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 이메일 조회가 자연 키/엔티티 캐시를 타고, 더티 체킹으로 바뀐 값이 캐시에 반영되는지 확인한다.
+ * 조회마다 별도 세션이어야 2차 캐시를 거치므로 @Transactional 을 두지 않고 직접 정리한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserSecondLevelCacheTest {
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private SessionFactory sessionFactory;
+  private String email;
+  private Long userId;
+
+  @BeforeEach
+  void seed() {
+    sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    email = "l2_" + System.nanoTime() + "@test.com";
+    jdbcTemplate.update(
+        "INSERT INTO users(email, password, nickname, role, created_at, updated_at) VALUES (?, 'x', 'l2', 'USER', NOW(6), NOW(6))",
+        email);
+    userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    sessionFactory.getCache().evictEntityData(User.class, userId);
+    sessionFactory.getCache().evictNaturalIdData(User.class);
+  }
+
+  @Test
+  void findByEmail_secondLookupIsServedFromCache() {
+    userRepository.findByEmail(email).orElseThrow();
+
+    Statistics statistics = sessionFactory.getStatistics();
+    statistics.clear();
+    User user = userRepository.findByEmail(email).orElseThrow();
+
+    assertEquals(userId, user.getId());
+    assertEquals(0, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void modifyRole_isVisibleThroughCache() {
+    userRepository.findByEmail(email).orElseThrow();
+
+    transactionTemplate.executeWithoutResult(status ->
+        userRepository.findById(userId).orElseThrow().modifyRole("ADMIN"));
+
+    assertEquals(UserRole.ADMIN, userRepository.findByEmail(email).orElseThrow().getRole());
+  }
+}
@@ -21,9 +21,9 @@ export const transactionApi = {
       return api.get(`/transactions/daily/${year}/${month}`)
     },
     exportCsv(params) {
-      return api.get('/transactions/export/csv', { params, responseType: 'blob' })
+      return api.get('/transactions/export/csv/stream', { params: { ...params, gzip: true }, responseType: 'blob' })
     },
     exportXlsx(params) {
-      return api.get('/transactions/export/xlsx', { params, responseType: 'blob' })
+      return api.get('/transactions/export/xlsx/stream', { params, responseType: 'blob' })
     },
 }
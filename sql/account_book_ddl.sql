@@ -51,8 +51,11 @@ CREATE TABLE IF NOT EXISTS transactions (
   amount BIGINT NOT NULL,
   description VARCHAR(255) NULL,
   transaction_date DATE NOT NULL,
+  import_hash CHAR(64) NULL,
   created_at DATETIME(6) NOT NULL,
   updated_at DATETIME(6) NOT NULL,
+  CONSTRAINT uq_transactions_user_import_hash
+    UNIQUE (user_id, import_hash),
   CONSTRAINT fk_transactions_user
     FOREIGN KEY (user_id) REFERENCES users(id),
   CONSTRAINT fk_transactions_category
@@ -61,6 +64,51 @@ CREATE TABLE IF NOT EXISTS transactions (
     CHECK (amount >= 1)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 월별 카테고리 합계 읽기 모델 (거래 쓰기와 같은 트랜잭션에서 증감)
+CREATE TABLE IF NOT EXISTS monthly_category_totals (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  month_start DATE NOT NULL,
+  category_id BIGINT NOT NULL,
+  type VARCHAR(20) NOT NULL,
+  total_amount BIGINT NOT NULL,
+  transaction_count INT NOT NULL,
+  updated_at DATETIME(6) NOT NULL,
+  CONSTRAINT uq_monthly_category_totals
+    UNIQUE (user_id, month_start, category_id, type),
+  CONSTRAINT fk_monthly_category_totals_user
+    FOREIGN KEY (user_id) REFERENCES users(id),
+  CONSTRAINT fk_monthly_category_totals_category
+    FOREIGN KEY (category_id) REFERENCES categories(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 계좌 원장 (추가 전용): 잔액 변경마다 증감액과 반영 후 잔액
+CREATE TABLE IF NOT EXISTS account_ledger_entries (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  account_id BIGINT NOT NULL,
+  transaction_id BIGINT NULL,
+  entry_type VARCHAR(20) NOT NULL,
+  amount BIGINT NOT NULL,
+  balance_after BIGINT NOT NULL,
+  posted_at DATETIME(6) NOT NULL,
+  CONSTRAINT fk_account_ledger_entries_account
+    FOREIGN KEY (account_id) REFERENCES accounts(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 계좌 일별 마감 잔액 스냅샷 (그날 원장 변동이 있었던 계좌만)
+CREATE TABLE IF NOT EXISTS account_balance_snapshots (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  account_id BIGINT NOT NULL,
+  snapshot_date DATE NOT NULL,
+  balance BIGINT NOT NULL,
+  last_entry_id BIGINT NOT NULL,
+  created_at DATETIME(6) NOT NULL,
+  CONSTRAINT uq_account_balance_snapshots
+    UNIQUE (account_id, snapshot_date),
+  CONSTRAINT fk_account_balance_snapshots_account
+    FOREIGN KEY (account_id) REFERENCES accounts(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 CREATE TABLE IF NOT EXISTS refresh_tokens (
   user_email VARCHAR(100) PRIMARY KEY,
   token VARCHAR(512) NOT NULL,
@@ -75,4 +123,10 @@ CREATE INDEX idx_categories_user_id ON categories(user_id);
 CREATE INDEX idx_transactions_user_id ON transactions(user_id);
 CREATE INDEX idx_transactions_category_id ON transactions(category_id);
 CREATE INDEX idx_transactions_date ON transactions(transaction_date);
+-- 거래 목록 키셋 페이지네이션 (transaction_date DESC, id DESC) seek 에도 사용 (InnoDB 보조 인덱스 끝에 PK 가 붙음)
 CREATE INDEX idx_transactions_user_date ON transactions(user_id, transaction_date);
+-- 월/일 집계 커버링 인덱스: 날짜 반열린 구간 범위 스캔 + type/category_id/amount 를 인덱스에서 바로 읽음
+CREATE INDEX idx_transactions_user_date_cover ON transactions(user_id, transaction_date, type, category_id, amount);
+-- 시점 잔액 조회 (계좌별 posted_at 역순 seek) / 일별 스냅샷 작업 (하루치 범위)
+CREATE INDEX idx_account_ledger_account_posted ON account_ledger_entries(account_id, posted_at, id);
+CREATE INDEX idx_account_ledger_posted ON account_ledger_entries(posted_at);